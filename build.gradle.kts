@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -51,6 +52,42 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// benchmark tasks
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    resultFormat = "JSON"
+    (findProperty("jmhIncludes") as String?)?.let { includes = it.split(",") }
+    (findProperty("jmhProfilers") as String?)?.let { profilers = it.split(",") }
+}
+
+tasks.register<JavaExec>("jmhSweep") {
+    group = "benchmark"
+    description = "Runs PointServiceBenchmark once per thread count and writes one JSON result per run."
+    dependsOn("jmhJar")
+    classpath = files(tasks.named<Jar>("jmhJar").flatMap { it.archiveFile })
+    mainClass = "io.hhplus.tdd.point.PointBenchmarkRunner"
+    args = listOfNotNull(
+        layout.buildDirectory.dir("results/jmh").get().asFile.path,
+        findProperty("jmhThreads") as String?
+    )
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "benchmark"
+    description = "Runs the HTTP load generator against a running server."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "io.hhplus.tdd.load.PointLoadTest"
+    args = (findProperty("loadArgs") as String?)?.split(" ") ?: emptyList()
+}
+
+tasks.register<JavaExec>("hotKeyLoadTest") {
+    group = "benchmark"
+    description = "Runs the hot-key load generator against a running server."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "io.hhplus.tdd.load.HotKeyLoadTest"
+    args = (findProperty("loadArgs") as String?)?.split(" ") ?: emptyList()
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-parameters")
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 히스토리 저장소 비교 - heap(PointHistoryTable, ArrayList) vs columnar(ColumnarPointHistoryTable)
+ * - 히스토리 1억 건 적재 후 건당 힙 사용량을 출력합니다.
+ * - 적재된 상태에서 임의 유저의 히스토리 조회(selectAllByUserId) 시간을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class PointHistoryStoreBenchmark {
+
+    @Param({"heap", "columnar"})
+    private String store;
+
+    @Param({"100000000"})
+    private int historyCount;
+
+    @Param({"1000000"})
+    private int userCount;
+
+    private PointHistoryTable table;
+
+    @Setup(Level.Trial)
+    public void load() {
+        long before = usedHeap();
+        table = store.equals("columnar") ? new ColumnarPointHistoryTable() : new UnthrottledPointHistoryTable();
+        long startMillis = System.currentTimeMillis();
+        for (int i = 0; i < historyCount; i++) {
+            long userId = i % userCount + 1;
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            table.insert(userId, 1_000L + i % 10_000, type, startMillis + i / 1_000);
+        }
+        long used = usedHeap() - before;
+        System.out.printf("%nstore=%s, 히스토리 수: %d, 힙 사용량: %dMB, 건당: %.1f byte%n",
+                store, historyCount, used / (1024 * 1024), (double) used / historyCount);
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId() {
+        return table.selectAllByUserId(ThreadLocalRandom.current().nextLong(1, userCount + 1L));
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
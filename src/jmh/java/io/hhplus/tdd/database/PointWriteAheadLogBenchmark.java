@@ -0,0 +1,60 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * write-ahead log 추가 처리량 - 추가 후 디스크 반영(sync)까지 기다리는 충전/사용 1건 단위
+ * - 동시에 sync 하는 스레드가 많을수록 한 번의 force 에 묶이는 레코드가 늘어납니다. (-t 로 스레드 수 조절)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class PointWriteAheadLogBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    @Param({"true", "false"})
+    private boolean forceOnCommit;
+
+    private Path directory;
+    private PointWriteAheadLog wal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-wal");
+        wal = new PointWriteAheadLog(new PointProperties.Wal(true, directory.toString(), SEGMENT_SIZE, forceOnCommit));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        wal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        private final long userId = Thread.currentThread().getId();
+    }
+
+    @Benchmark
+    public long appendAndSync(User user) {
+        long position = wal.append(user.userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        wal.sync(position);
+        return position;
+    }
+}
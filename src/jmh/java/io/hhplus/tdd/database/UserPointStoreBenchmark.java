@@ -0,0 +1,58 @@
+package io.hhplus.tdd.database;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소 비교 - heap(HashMap 기반) vs primitive(PrimitiveUserPointTable)
+ * - 유저 1천만 명 적재 후 유저당 힙 사용량을 출력합니다.
+ * - 적재된 상태에서 조회/갱신을 계속 수행하며, GC 정지 시간은 -prof gc 또는 -jvmArgsAppend -Xlog:gc 로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xlog:gc:file=build/results/jmh/gc-%p.log"})
+@Threads(8)
+public class UserPointStoreBenchmark {
+
+    @Param({"heap", "primitive"})
+    private String store;
+
+    @Param({"10000000"})
+    private int userCount;
+
+    private UserPointTable table;
+
+    @Setup(Level.Trial)
+    public void load() {
+        long before = usedHeap();
+        table = store.equals("primitive") ? new PrimitiveUserPointTable() : new UnthrottledUserPointTable();
+        for (long userId = 1; userId <= userCount; userId++) {
+            table.insertOrUpdate(userId, userId);
+        }
+        long used = usedHeap() - before;
+        System.out.printf("%nstore=%s, 유저 수: %d, 힙 사용량: %dMB, 유저당: %.1f byte%n",
+                store, userCount, used / (1024 * 1024), (double) used / userCount);
+    }
+
+    @Benchmark
+    public long select() {
+        return table.selectById(ThreadLocalRandom.current().nextLong(1, userCount + 1L)).point();
+    }
+
+    @Benchmark
+    public long update() {
+        long userId = ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+        return table.insertOrUpdate(userId, userId).point();
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 유저에 요청이 몰릴 때(hot key) 다른 유저의 지연 시간 부하 테스트
+ * - 공격 클라이언트는 한 유저에게 쉬지 않고 충전 요청을 보내고, 일반 클라이언트는 각자 다른 유저에게 충전 요청을 보냅니다.
+ * - 일반 유저의 p50/p99 지연 시간과 공격 요청의 429 거절 건수를 출력합니다.
+ * - 서버를 point.rate-limit.enabled=false / true 로 각각 띄워 일반 유저의 p99 를 비교합니다.
+ *
+ * 실행 예) ./gradlew hotKeyLoadTest -PloadArgs="http://localhost:8080 200 200 30"
+ * - 인자 : 서버 주소, 일반 클라이언트 수, 공격 클라이언트 수, 측정 시간(초)
+ */
+public class HotKeyLoadTest {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long CHARGE_AMOUNT = 1L;
+
+    public static void main(String[] args) {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int normalClients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int attackers = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        long durationSeconds = args.length > 3 ? Long.parseLong(args[3]) : 30L;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+
+        Group normal = new Group();
+        Group hot = new Group();
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[normalClients + attackers];
+        for (int i = 0; i < normalClients; i++) {
+            // 공격 대상과 겹치지 않는 유저
+            loops[i] = loop(client, baseUrl, HOT_USER_ID + 1 + i, deadline, normal);
+        }
+        for (int i = 0; i < attackers; i++) {
+            loops[normalClients + i] = loop(client, baseUrl, HOT_USER_ID, deadline, hot);
+        }
+        CompletableFuture.allOf(loops).join();
+
+        System.out.println("group,clients,requests,rejected(429),errors,throughput(req/s),p50(ms),p99(ms)");
+        normal.print("normal", normalClients, durationSeconds);
+        hot.print("hot-key", attackers, durationSeconds);
+    }
+
+    // 응답을 받으면 바로 다음 요청을 보내는 클라이언트 하나 - 측정 시간이 끝나면 완료
+    private static CompletableFuture<Void> loop(HttpClient client, String baseUrl, long userId, long deadline,
+                                                Group group) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(CHARGE_AMOUNT)))
+                .build();
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    group.record(e == null ? response.statusCode() : -1, System.nanoTime() - sentAt);
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, baseUrl, userId, deadline, group));
+    }
+
+    private static class Group {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(int status, long latencyNanos) {
+            latencies.add(latencyNanos);
+            if (status == 429) {
+                rejected.increment();
+            } else if (status != 200) {
+                errors.increment();
+            }
+        }
+
+        void print(String name, int clients, long durationSeconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%s,%d,%d,%d,%d,%.1f,%.1f,%.1f%n",
+                    name,
+                    clients,
+                    sorted.length,
+                    rejected.sum(),
+                    errors.sum(),
+                    sorted.length / (double) durationSeconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99));
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+}
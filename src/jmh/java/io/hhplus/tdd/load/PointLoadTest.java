@@ -0,0 +1,99 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 API 부하 테스트
+ * - 동시 클라이언트 수별로 충전 요청을 보내 처리량과 p99 지연 시간을 측정합니다.
+ * - 서버를 플랫폼 스레드 / 가상 스레드(spring.threads.virtual.enabled=true, point.async.executor=VIRTUAL, JDK 21+)로 각각 띄워 결과를 비교합니다.
+ *
+ * - 서버 주소를 쉼표로 여러 개 지정하면 요청을 노드에 번갈아 보내므로, 클러스터 노드 수를 늘려 가며 처리량을 비교할 수 있습니다.
+ *
+ * 실행 예) ./gradlew loadTest -PloadArgs="http://localhost:8080 1000,10000,50000 60"
+ * - 인자 : 서버 주소(쉼표로 여러 개), 동시 클라이언트 수 목록, 단계별 요청 수 배수
+ *
+ * 클러스터 실행 예) 노드마다 아래처럼 띄운 뒤 서버 주소에 노드 주소를 모두 지정
+ * ./gradlew bootRun --args="--server.port=8081 --point.cluster.enabled=true --point.cluster.self-url=http://localhost:8081
+ *      --point.cluster.members=http://localhost:8081,http://localhost:8082"
+ * ./gradlew loadTest -PloadArgs="http://localhost:8081,http://localhost:8082 1000,10000 3"
+ */
+public class PointLoadTest {
+
+    private static final long CHARGE_AMOUNT = 1L;
+
+    public static void main(String[] args) throws InterruptedException {
+        String[] baseUrls = (args.length > 0 ? args[0] : "http://localhost:8080").split(",");
+        int[] concurrencies = Arrays.stream((args.length > 1 ? args[1] : "1000,10000,50000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requestsPerClient = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        System.out.println("concurrency,requests,errors,throughput(req/s),p50(ms),p99(ms)");
+        for (int concurrency : concurrencies) {
+            run(client, baseUrls, concurrency, concurrency * requestsPerClient);
+        }
+    }
+
+    private static void run(HttpClient client, String[] baseUrls, int concurrency, int requestCount)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        long[] latencies = new long[requestCount];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[requestCount];
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            inFlight.acquire();
+            // 유저를 고르게 분산해 유저 락 경합이 아닌 서버 스레드 모델을 측정
+            long userId = i % concurrency + 1;
+            // 노드에 번갈아 보냄 - 담당이 아닌 노드에 도착한 요청은 담당 노드로 전달됨
+            String baseUrl = baseUrls[i % baseUrls.length];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(CHARGE_AMOUNT)))
+                    .build();
+
+            int index = i;
+            long sentAt = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        if (e != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        completed.incrementAndGet();
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(responses).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        System.out.printf("%d,%d,%d,%.1f,%.1f,%.1f%n",
+                concurrency,
+                completed.get(),
+                errors.get(),
+                requestCount / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99));
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 유저에 대한 잔액 조회 처리량 - 읽기/쓰기 혼합 경합
+ * - readHeavy : 읽기 스레드 19 : 쓰기 스레드 1 (95/5)
+ * - mixed : 읽기 스레드 4 : 쓰기 스레드 4 (50/50)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalanceReadBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long INITIAL_POINT = 50_000L;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture();
+        pointService = fixture.pointService();
+        pointService.chargePointOf(HOT_USER_ID, INITIAL_POINT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private long sequence;
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(19)
+    public UserPoint readHeavyRead() {
+        return pointService.getUserPointOf(HOT_USER_ID);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public UserPoint readHeavyWrite(Writer writer) {
+        return write(writer);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public UserPoint mixedRead() {
+        return pointService.getUserPointOf(HOT_USER_ID);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public UserPoint mixedWrite(Writer writer) {
+        return write(writer);
+    }
+
+    // 충전과 사용을 번갈아 잔액을 일정 범위로 유지
+    private UserPoint write(Writer writer) {
+        if ((writer.sequence++ & 1) == 0) {
+            return pointService.chargePointOf(HOT_USER_ID, 1L);
+        }
+        return pointService.usePointOf(HOT_USER_ID, 1L);
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idempotency-Key 캐시 조회 비용 - 같은 조건에서 키 유무만 바꿔 충전 지연 비교
+ * - none : 키 없음 (캐시를 거치지 않음)
+ * - unique : 요청마다 새 키 (캐시 등록 + 오래된 키 제거 비용 포함)
+ * - repeated : 같은 키 재요청 (캐시에서 바로 반환, 테이블/히스토리 미호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class IdempotencyBenchmark {
+
+    private static final int USER_COUNT = 1024;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture();
+        pointService = fixture.pointService();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            pointService.chargePointOf(userId, 1L, "repeated-" + userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    @Benchmark
+    public UserPoint none() {
+        long next = sequence.incrementAndGet();
+        return chargeOrReset(next, null);
+    }
+
+    @Benchmark
+    public UserPoint unique() {
+        long next = sequence.incrementAndGet();
+        return chargeOrReset(next, "unique-" + next);
+    }
+
+    @Benchmark
+    public UserPoint repeated() {
+        long userId = sequence.incrementAndGet() % USER_COUNT + 1;
+        return pointService.chargePointOf(userId, 1L, "repeated-" + userId);
+    }
+
+    // 최대 잔액 도달 시 잔액을 되돌리고 계속 측정 (드물게 발생)
+    private UserPoint chargeOrReset(long next, String idempotencyKey) {
+        long userId = next % USER_COUNT + 1;
+        try {
+            return pointService.chargePointOf(userId, 1L, idempotencyKey);
+        } catch (IllegalArgumentException e) {
+            return pointService.usePointOf(userId, 10_000L);
+        }
+    }
+}
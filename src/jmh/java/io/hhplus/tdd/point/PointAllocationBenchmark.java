@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.common.PointConstants.MAXIMUM_BALANCE;
+
+/**
+ * 충전/사용 핫 패스의 요청당 할당량 측정
+ * - gc 프로파일러의 gc.alloc.rate.norm(B/op) 으로 확인합니다.
+ * - 성공한 충전/사용은 테이블 계약상 필요한 UserPoint / PointHistory 외에는 할당하지 않아야 합니다.
+ * - 검증 실패는 메시지를 만들지 않는 예외 하나만 할당해야 합니다.
+ * - 히스토리는 SYNC 로 기록해 요청 객체가 다음 요청에 재사용되는 경로를 측정
+ *
+ * 실행 예) ./gradlew jmh -PjmhIncludes=PointAllocationBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointAllocationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long AMOUNT = 1L;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(new UnthrottledUserPointTable(), new UnthrottledPointHistoryTable(),
+                new PointMetrics(true), PointEngineMode.LOCK, HistoryDurability.SYNC);
+        pointService = fixture.pointService();
+        pointService.chargePointOf(USER_ID, MAXIMUM_BALANCE / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    // 충전 후 같은 금액 사용 - 잔액이 일정하게 유지됨
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public long chargeAndUse() {
+        pointService.chargePointOf(USER_ID, AMOUNT);
+        return pointService.usePointOf(USER_ID, AMOUNT).point();
+    }
+
+    // 최대 잔액 초과로 항상 거절되는 충전
+    @Benchmark
+    public long rejectedCharge() {
+        try {
+            return pointService.chargePointOf(USER_ID, MAXIMUM_BALANCE).point();
+        } catch (PointValidationException e) {
+            return e.rule().ordinal();
+        }
+    }
+}
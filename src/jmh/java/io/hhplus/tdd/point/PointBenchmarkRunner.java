@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * 스레드 수별 PointServiceBenchmark 실행
+ * - 스레드 수마다 JSON 결과 파일을 하나씩 남겨 릴리스 간 비교(diff)에 사용합니다.
+ *
+ * 실행 예) ./gradlew jmhSweep -PjmhThreads=1,4,16,64,256
+ * - 인자 : 결과 디렉토리, 스레드 수 목록(기본 1 ~ 256), 벤치마크 이름 정규식
+ */
+public class PointBenchmarkRunner {
+
+    private static final String DEFAULT_THREADS = "1,2,4,8,16,32,64,128,256";
+
+    public static void main(String[] args) throws RunnerException {
+        File resultDirectory = new File(args.length > 0 ? args[0] : "build/results/jmh");
+        int[] threadCounts = Arrays.stream((args.length > 1 ? args[1] : DEFAULT_THREADS).split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        String include = args.length > 2 ? args[2] : PointServiceBenchmark.class.getSimpleName();
+        resultDirectory.mkdirs();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultDirectory, "point-t" + threads + ".json").getPath())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
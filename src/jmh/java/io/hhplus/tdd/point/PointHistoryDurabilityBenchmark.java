@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.common.PointConstants.MINIMUM_CHARGE_AMOUNT;
+
+/**
+ * 히스토리 기록 방식별 여러 유저 동시 충전 처리량 - throttle 이 있는 실제 테이블 사용
+ * - durability : SYNC(히스토리 테이블 반영까지 대기) / ASYNC(적재 후 바로 반환)
+ * - PointHistoryTable 은 동시 insert 를 지원하지 않아 drainer 하나가 순서대로 반영하므로(평균 약 150ms),
+ *   SYNC 는 유저 수·스레드 수와 무관하게 drainer 의 반영 속도에 묶이고, ASYNC 는 유저 락 구간(잔액 갱신)만큼 확장됩니다.
+ * - Trial 종료 시 남은 히스토리 대기열 크기를 출력
+ *
+ * 실행 예) ./gradlew jmh -PjmhIncludes=PointHistoryDurabilityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(1)
+public class PointHistoryDurabilityBenchmark {
+
+    @Param({"SYNC", "ASYNC"})
+    private HistoryDurability durability;
+
+    @Param({"1024"})
+    private int userCount;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(new UserPointTable(), new PointHistoryTable(), new PointMetrics(true),
+                PointEngineMode.LOCK, durability);
+        pointService = fixture.pointService();
+    }
+
+    // ASYNC 의 남은 대기열을 모두 반영하면 수 분이 걸리므로 닫지 않음 - drainer 는 daemon 스레드로 fork 와 함께 종료
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s 남은 히스토리 대기열: %d%n", durability, fixture.pointHistoryWriter().backlog());
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount) + 1;
+        return pointService.chargePointOf(userId, MINIMUM_CHARGE_AMOUNT);
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 히스토리 조회 비용 - 조회 대상 유저의 히스토리 수는 고정하고 전체 히스토리 수만 늘려 비교
+ * - table : PointHistoryTable 전체 순회
+ * - index : PointHistoryIndex 유저별 조회
+ * - page : PointHistoryIndex 커서 페이지 조회 (limit 10)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointHistoryLookupBenchmark {
+
+    private static final int HISTORIES_PER_USER = 100;
+    private static final long TARGET_USER_ID = 1L;
+    private static final PointHistoryQuery PAGE_QUERY =
+            new PointHistoryQuery(0L, 10, Long.MIN_VALUE, Long.MAX_VALUE, TransactionType.CHARGE);
+
+    @Param({"10000", "1000000", "5000000"})
+    private int totalHistories;
+
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryIndex pointHistoryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new UnthrottledPointHistoryTable();
+        pointHistoryIndex = new PointHistoryIndex();
+
+        long userCount = totalHistories / HISTORIES_PER_USER;
+        for (int i = 0; i < totalHistories; i++) {
+            long userId = i % userCount + 1;
+            PointHistory history = pointHistoryTable.insert(userId, 100L, TransactionType.CHARGE, i);
+            pointHistoryIndex.append(history);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> table() {
+        return pointHistoryTable.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> index() {
+        return pointHistoryIndex.historiesOf(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> page() {
+        List<PointHistory> page = new ArrayList<>(10);
+        pointHistoryIndex.forEachHistoryOf(TARGET_USER_ID, PAGE_QUERY, page::add);
+        return page;
+    }
+}
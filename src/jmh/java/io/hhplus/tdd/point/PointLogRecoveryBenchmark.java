@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.PointSnapshotter;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로그 크기별 기동 복구 시간 - 로그를 처음부터 재생해 테이블과 히스토리 인덱스를 다시 채움
+ * - 애플리케이션이 로그와 함께 주입하는 테이블(PrimitiveUserPointTable) 과 히스토리 인덱스를 그대로 사용합니다.
+ * - 히스토리는 인덱스로 바로 복구하고 잔액은 한 번에 저장하므로, 로그 크기에 비례하는 테이블 I/O 가 없습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class PointLogRecoveryBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int USER_COUNT = 100;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int logSize;
+
+    private Path directory;
+    private PointLogRecovery recovery;
+
+    @Setup(Level.Trial)
+    public void writeLog() throws IOException {
+        directory = Files.createTempDirectory("point-wal");
+        PointWriteAheadLog wal = openLog();
+        for (int i = 0; i < logSize; i++) {
+            wal.append(i % USER_COUNT + 1, 100L, TransactionType.CHARGE, i);
+        }
+        wal.close();
+    }
+
+    // 매 측정마다 빈 테이블에서 시작
+    @Setup(Level.Invocation)
+    public void setUp() {
+        PointWriteAheadLog wal = openLog();
+        PointSnapshotter snapshotter = new PointSnapshotter(wal, new PointProperties.Snapshot(false, "", 60));
+        recovery = new PointLogRecovery(wal, snapshotter, new PrimitiveUserPointTable(),
+                new PointHistoryIndex(), new PointSummaryStore(), new UserPointCache(USER_COUNT));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        return recovery.recover();
+    }
+
+    private PointWriteAheadLog openLog() {
+        return new PointWriteAheadLog(new PointProperties.Wal(true, directory.toString(), SEGMENT_SIZE, false));
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 기록 비용 - 충전 경로의 처리량을 지표 수집 활성화/비활성화로 비교
+ * - 두 결과의 차이가 1% 미만이어야 합니다.
+ * - 유저를 스레드마다 분리해 락 경합이 아닌 기록 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PointMetricsOverheadBenchmark {
+
+    private static final long CHARGE_AMOUNT = 1L;
+    private static final long USE_AMOUNT = 1L;
+
+    @Param({"true", "false"})
+    private boolean metricsEnabled;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(new UnthrottledUserPointTable(), new UnthrottledPointHistoryTable(),
+                new PointMetrics(metricsEnabled));
+        pointService = fixture.pointService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        private static long nextUserId = 1L;
+        private long userId;
+        private long sequence;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            synchronized (User.class) {
+                userId = nextUserId++;
+            }
+        }
+    }
+
+    // 충전과 사용을 번갈아 잔액을 일정 범위로 유지
+    @Benchmark
+    public UserPoint charge(User user) {
+        if ((user.sequence++ & 1) == 0) {
+            return pointService.chargePointOf(user.userId, CHARGE_AMOUNT);
+        }
+        return pointService.usePointOf(user.userId, USE_AMOUNT);
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.common.PointConstants.MAXIMUM_BALANCE;
+import static io.hhplus.tdd.common.PointConstants.MAXIMUM_USE_AMOUNT;
+import static io.hhplus.tdd.common.PointConstants.MINIMUM_CHARGE_AMOUNT;
+import static io.hhplus.tdd.common.PointConstants.MINIMUM_USE_AMOUNT;
+
+/**
+ * PointService 핫 패스 벤치마크
+ * - throttle : stub(테이블 지연 제거) / production(테이블 지연 유지)
+ * - distribution : 유저 분포 (UserDistribution) - SINGLE 은 한 유저 집중, UNIFORM / ZIPFIAN 은 여러 유저
+ * - engine : 잔액 갱신 방식 (LOCK - 유저 락 + 요청 결합 / CAS - 원자적 잔액 셀 / SHARDED - shard 단일 writer)
+ * - 스레드 수는 JMH -t 옵션 또는 PointBenchmarkRunner 로 1 ~ 256 까지 변경하며 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = MAXIMUM_BALANCE / 2;
+
+    @Param({"stub", "production"})
+    private String throttle;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPFIAN"})
+    private UserDistribution distribution;
+
+    @Param({"LOCK", "CAS", "SHARDED"})
+    private PointEngineMode engine;
+
+    @Param({"1024"})
+    private int userCount;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = "stub".equals(throttle)
+                ? new PointServiceFixture(new UnthrottledUserPointTable(), new UnthrottledPointHistoryTable(),
+                        new PointMetrics(true), engine)
+                : new PointServiceFixture(new UserPointTable(), new PointHistoryTable(), new PointMetrics(true), engine);
+        pointService = fixture.pointService();
+
+        // 충전/사용 모두 여유가 있도록 잔액을 최대 잔액의 절반으로 맞춤
+        List<PointCommand> seeds = new ArrayList<>(userCount);
+        for (long userId = 1; userId <= userCount; userId++) {
+            seeds.add(new PointCommand(userId, TransactionType.CHARGE, INITIAL_POINT));
+        }
+        pointService.applyBatch(seeds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Users {
+
+        private UserDistribution.Generator generator;
+
+        @Setup(Level.Trial)
+        public void setUp(PointServiceBenchmark benchmark) {
+            generator = benchmark.distribution.generator(benchmark.userCount);
+        }
+
+        long next() {
+            return generator.nextUserId();
+        }
+    }
+
+    @Benchmark
+    public UserPoint charge(Users users) {
+        long userId = users.next();
+        try {
+            return pointService.chargePointOf(userId, MINIMUM_CHARGE_AMOUNT);
+        } catch (IllegalArgumentException e) {
+            // 최대 잔액 도달 - 잔액을 초기 잔액 근처로 되돌리고 계속 측정 (드물게 발생)
+            return rebalance(userId, TransactionType.USE, MAXIMUM_USE_AMOUNT, 5);
+        }
+    }
+
+    @Benchmark
+    public UserPoint use(Users users) {
+        long userId = users.next();
+        try {
+            return pointService.usePointOf(userId, MINIMUM_USE_AMOUNT);
+        } catch (IllegalArgumentException e) {
+            // 잔액 소진 - 잔액을 초기 잔액 근처로 되돌리고 계속 측정 (드물게 발생)
+            return rebalance(userId, TransactionType.CHARGE, INITIAL_POINT, 1);
+        }
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint(Users users) {
+        return pointService.getUserPointOf(users.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> getPointHistories(Users users) {
+        return pointService.getPointHistoriesOf(users.next());
+    }
+
+    // 잔액 되돌리기 - 다른 스레드와 경합해 일부 실패해도 무시
+    private UserPoint rebalance(long userId, TransactionType type, long amount, int count) {
+        List<PointCommand> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(new PointCommand(userId, type, amount));
+        }
+        List<PointBatchResult> results = pointService.applyBatch(commands);
+        return results.get(count - 1).userPoint();
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크용 PointService 조립
+ * - throttle 이 제거된 테이블 사용
+ * - 히스토리는 기본으로 ASYNC 로 기록해 호출 스레드가 drainer 를 기다리지 않음
+ * - engineMode : 잔액 갱신 방식 (기본 LOCK)
+ * - durability : 히스토리 기록 방식 (기본 ASYNC)
+ */
+public class PointServiceFixture {
+
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointBatchExecutor pointBatchExecutor;
+    private final CasPointEngine casPointEngine;
+    private final ShardedPointEngine shardedPointEngine;
+    private final PointService pointService;
+
+    public PointServiceFixture() {
+        this(new UnthrottledUserPointTable(), new UnthrottledPointHistoryTable());
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        this(userPointTable, pointHistoryTable, new PointMetrics(true));
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                               PointMetrics pointMetrics) {
+        this(userPointTable, pointHistoryTable, pointMetrics, PointEngineMode.LOCK);
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                               PointMetrics pointMetrics, PointEngineMode engineMode) {
+        this(userPointTable, pointHistoryTable, pointMetrics, engineMode, HistoryDurability.ASYNC);
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                               PointMetrics pointMetrics, PointEngineMode engineMode, HistoryDurability durability) {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        this.pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(durability, 1_000_000, 1_000, "heap"), pointMetrics);
+        this.pointBatchExecutor = new PointBatchExecutor(Runtime.getRuntime().availableProcessors());
+        PointProperties.Engine engine = new PointProperties.Engine(engineMode, 0, 1024, ShardBackpressure.BLOCK, 100_000);
+        this.casPointEngine = new CasPointEngine(userPointTable, pointMetrics, engine);
+        this.shardedPointEngine = new ShardedPointEngine(userPointTable, pointMetrics, engine);
+        this.pointService = new PointService(userPointTable, pointHistoryTable, pointHistoryWriter, pointHistoryIndex,
+                new UserPointCache(1_000_000), new PointSummaryStore(),
+                new IdempotencyCache(1_000_000, Duration.ofMinutes(10)), casPointEngine, shardedPointEngine,
+                pointBatchExecutor,
+                new PointWriteAheadLog(new PointProperties.Wal(false, "data/wal", 1024, true)), pointMetrics);
+    }
+
+    public PointService pointService() {
+        return pointService;
+    }
+
+    public PointHistoryWriter pointHistoryWriter() {
+        return pointHistoryWriter;
+    }
+
+    public void close() throws InterruptedException {
+        pointBatchExecutor.close();
+        pointHistoryWriter.close();
+        casPointEngine.close();
+        shardedPointEngine.close();
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.BalanceMap;
+import io.hhplus.tdd.database.PointSnapshotter;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.SummaryMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 기동 복구 시간 - 스냅샷 + 이후 로그 재생 vs 로그 전체 재생
+ * - 기본 10M 유저, 100M 히스토리 (로그 약 3.2GB, 힙 24GB 필요) - 작은 규모는 -p userCount=.. -p historyRows=.. 로 실행
+ * - snapshot 모드는 마지막 tailRows 건을 제외한 로그로 스냅샷을 만든 뒤 재생
+ * - 애플리케이션이 로그와 함께 주입하는 테이블(PrimitiveUserPointTable) 과 히스토리 인덱스로 복구합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx24g"})
+public class PointStartupBenchmark {
+
+    private static final int SEGMENT_SIZE = 256 * 1024 * 1024;
+
+    @Param({"snapshot", "fullReplay"})
+    private String mode;
+
+    @Param({"10000000"})
+    private int userCount;
+
+    @Param({"100000000"})
+    private long historyRows;
+
+    @Param({"1000000"})
+    private long tailRows;
+
+    private Path directory;
+    private PointSnapshotter snapshotter;
+    private PointLogRecovery recovery;
+
+    @Setup(Level.Trial)
+    public void writeLogAndSnapshot() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("point-startup");
+        PointWriteAheadLog wal = openLog();
+        append(wal, 0L, historyRows - tailRows);
+
+        PointSnapshotter initial = openSnapshotter(wal, true);
+        initial.start(new BalanceMap(userCount), new SummaryMap(userCount), 0L);
+        initial.snapshot();
+        initial.close();
+        append(wal, historyRows - tailRows, historyRows);
+        wal.close();
+    }
+
+    // 매 측정마다 빈 테이블에서 시작
+    @Setup(Level.Invocation)
+    public void setUp() {
+        PointWriteAheadLog wal = openLog();
+        snapshotter = openSnapshotter(wal, mode.equals("snapshot"));
+        recovery = new PointLogRecovery(wal, snapshotter,
+                new PrimitiveUserPointTable(), new PointHistoryIndex(),
+                new PointSummaryStore(), new UserPointCache(100_000));
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeSnapshotter() throws InterruptedException {
+        snapshotter.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long startup() {
+        return recovery.recover();
+    }
+
+    private void append(PointWriteAheadLog wal, long from, long to) {
+        for (long i = from; i < to; i++) {
+            wal.append(i % userCount + 1, 100L, TransactionType.CHARGE, i);
+        }
+    }
+
+    private PointWriteAheadLog openLog() {
+        return new PointWriteAheadLog(new PointProperties.Wal(true, directory.resolve("wal").toString(),
+                SEGMENT_SIZE, false));
+    }
+
+    // 주기적 스냅샷은 측정에 섞이지 않도록 1일 주기로 설정
+    private PointSnapshotter openSnapshotter(PointWriteAheadLog wal, boolean enabled) {
+        return new PointSnapshotter(wal, new PointProperties.Snapshot(enabled,
+                directory.resolve("point.snapshot").toString(), TimeUnit.DAYS.toSeconds(1)));
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 대상 유저 분포
+ * - SINGLE : 한 유저에 모든 요청 집중
+ * - UNIFORM : 전체 유저에 고르게 분산
+ * - ZIPFIAN : 소수의 인기 유저에 요청 집중 (theta 0.99)
+ */
+public enum UserDistribution {
+    SINGLE, UNIFORM, ZIPFIAN;
+
+    private static final double ZIPFIAN_THETA = 0.99;
+
+    // 스레드별로 생성해 사용
+    public Generator generator(int userCount) {
+        return switch (this) {
+            case SINGLE -> () -> 1L;
+            case UNIFORM -> () -> ThreadLocalRandom.current().nextLong(userCount) + 1;
+            case ZIPFIAN -> new Zipfian(userCount, ZIPFIAN_THETA);
+        };
+    }
+
+    public interface Generator {
+        long nextUserId();
+    }
+
+    /**
+     * Gray et al. "Quickly Generating Billion-Record Synthetic Databases" 방식의 Zipfian 생성기
+     */
+    private static class Zipfian implements Generator {
+
+        private final int itemCount;
+        private final double theta;
+        private final double alpha;
+        private final double zetaN;
+        private final double eta;
+
+        Zipfian(int itemCount, double theta) {
+            this.itemCount = itemCount;
+            this.theta = theta;
+            this.alpha = 1.0 / (1.0 - theta);
+            this.zetaN = zeta(itemCount, theta);
+            this.eta = (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        }
+
+        @Override
+        public long nextUserId() {
+            double u = ThreadLocalRandom.current().nextDouble();
+            double uz = u * zetaN;
+            if (uz < 1.0) {
+                return 1L;
+            }
+            if (uz < 1.0 + Math.pow(0.5, theta)) {
+                return 2L;
+            }
+            return 1L + (long) (itemCount * Math.pow(eta * u - eta + 1, alpha));
+        }
+
+        private static double zeta(long n, double theta) {
+            double sum = 0;
+            for (long i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서로 다른 유저 1천만 명의 락 획득/반납 후 힙 사용량
+ * - 반납된 유저 락은 제거되므로 유저 수와 관계없이 저장소 크기와 힙 사용량이 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class UserLockRegistryBenchmark {
+
+    private static final int DISTINCT_USERS = 10_000_000;
+
+    private final UserLockRegistry registry = new UserLockRegistry();
+    private long nextUserId = 1;
+
+    @Benchmark
+    public int distinctUsers() {
+        for (int i = 0; i < DISTINCT_USERS; i++) {
+            UserLock userLock = registry.acquire(nextUserId++);
+            long stamp = userLock.lock().writeLock();
+            userLock.lock().unlockWrite(stamp);
+            registry.release(userLock);
+        }
+        return registry.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long usedMegabytes = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        System.out.printf("%n누적 유저 수: %d, 보관 중인 락: %d, 힙 사용량: %dMB%n",
+                nextUserId - 1, registry.size(), usedMegabytes);
+    }
+}
@@ -0,0 +1,157 @@
+package io.hhplus.tdd.wire;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 파싱 / 응답 직렬화 비용 - JSON(Jackson) 과 바이너리(PointBinaryCodec) 비교
+ * - format : json / binary
+ * - historyCount : 히스토리 목록 / 일괄 처리 항목 수
+ * - 형식별 응답 크기(byte)는 Trial 시작 시 출력
+ * - 재사용하는 메모리 버퍼에 기록해 네트워크가 아닌 인코딩 비용만 측정
+ *
+ * 실행 예) ./gradlew jmh -PjmhIncludes=PointWireFormatBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointWireFormatBenchmark {
+
+    private static final TypeReference<List<PointCommand>> COMMANDS = new TypeReference<>() {
+    };
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"100"})
+    private int historyCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private boolean binary;
+    private UserPoint userPoint;
+    private List<PointHistory> histories;
+    private List<PointBatchResult> batchResults;
+    private byte[] amountBody;
+    private byte[] commandsBody;
+    private ByteArrayInputStream amountInput;
+    private ByteArrayInputStream commandsInput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        binary = "binary".equals(format);
+        long now = System.currentTimeMillis();
+        userPoint = new UserPoint(12_345L, 50_000L, now);
+        histories = new ArrayList<>(historyCount);
+        batchResults = new ArrayList<>(historyCount);
+        List<PointCommand> commands = new ArrayList<>(historyCount);
+        for (int i = 0; i < historyCount; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            histories.add(new PointHistory(1_000_000L + i, userPoint.id(), 1_000L + i, type, now + i));
+            PointCommand command = new PointCommand(10_000L + i, type, 1_000L + i);
+            commands.add(command);
+            batchResults.add(PointBatchResult.success(command, new UserPoint(command.userId(), 50_000L + i, now + i)));
+        }
+
+        // 요청 본문 - 충전 금액, 일괄 처리 항목
+        if (binary) {
+            amountBody = ByteBuffer.allocate(PointBinaryCodec.AMOUNT_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .putLong(1_000L)
+                    .array();
+            commandsBody = encodeCommands(commands);
+        } else {
+            amountBody = objectMapper.writeValueAsBytes(1_000L);
+            commandsBody = objectMapper.writeValueAsBytes(commands);
+        }
+        amountInput = new ByteArrayInputStream(amountBody);
+        commandsInput = new ByteArrayInputStream(commandsBody);
+
+        System.out.printf("%n%s 크기(byte) - UserPoint: %d, 히스토리 %d건: %d, 일괄 처리 결과 %d건: %d, 일괄 처리 요청: %d%n",
+                format, writeUserPoint(), historyCount, writeHistories(), historyCount, writeBatchResults(),
+                commandsBody.length);
+    }
+
+    @Benchmark
+    public int writeUserPoint() throws IOException {
+        out.reset();
+        if (binary) {
+            PointBinaryCodec.writeUserPoint(userPoint, out);
+        } else {
+            objectMapper.writeValue(out, userPoint);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeHistories() throws IOException {
+        out.reset();
+        if (binary) {
+            PointBinaryCodec.writeHistories(histories, out);
+        } else {
+            objectMapper.writeValue(out, histories);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeBatchResults() throws IOException {
+        out.reset();
+        if (binary) {
+            PointBinaryCodec.writeBatchResults(batchResults, out);
+        } else {
+            objectMapper.writeValue(out, batchResults);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public long readAmount() throws IOException {
+        if (binary) {
+            amountInput.reset();
+            return PointBinaryCodec.readAmount(amountInput);
+        }
+        return objectMapper.readValue(amountBody, Long.class);
+    }
+
+    @Benchmark
+    public List<PointCommand> readCommands() throws IOException {
+        if (binary) {
+            commandsInput.reset();
+            return PointBinaryCodec.readCommands(commandsInput);
+        }
+        return objectMapper.readValue(commandsBody, COMMANDS);
+    }
+
+    // 바이너리 일괄 처리 요청 - 건수(4) + userId(8) type(1) amount(8)
+    private static byte[] encodeCommands(List<PointCommand> commands) {
+        ByteBuffer buffer = ByteBuffer
+                .allocate(PointBinaryCodec.COUNT_SIZE + PointBinaryCodec.POINT_COMMAND_SIZE * commands.size())
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(commands.size());
+        for (PointCommand command : commands) {
+            buffer.putLong(command.userId())
+                    .put((byte) command.type().ordinal())
+                    .putLong(command.amount());
+        }
+        return buffer.array();
+    }
+}
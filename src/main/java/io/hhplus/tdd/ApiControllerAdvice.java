@@ -1,5 +1,8 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.IdempotencyKeyMismatchException;
+import io.hhplus.tdd.point.PointBatchSizeExceededException;
+import io.hhplus.tdd.point.PointOverloadedException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +10,21 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = PointOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(PointOverloadedException e) {
+        return ResponseEntity.status(429).header("Retry-After", "1").body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = PointBatchSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleBatchSizeExceeded(PointBatchSizeExceededException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
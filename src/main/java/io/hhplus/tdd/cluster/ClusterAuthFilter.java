@@ -0,0 +1,65 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.common.PointProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 클러스터 API(/cluster/**) 인증
+ * - 멤버 변경과 잔액 이관은 노드 간 공유 비밀값(point.cluster.secret)을 X-Point-Cluster-Secret 헤더로 보낸 요청만 처리하고, 나머지는 401 로 거절합니다.
+ * - 비밀값이 비어 있으면 누구나 멤버를 바꾸거나 잔액을 가져갈 수 있으므로 기동하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterAuthFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterAuthFilter.class);
+    private static final String CLUSTER_PATH = "/cluster/";
+
+    private final byte[] secret;
+    private final ObjectMapper objectMapper;
+
+    public ClusterAuthFilter(PointProperties properties, ObjectMapper objectMapper) {
+        String secret = properties.cluster().secret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("클러스터 모드에서는 point.cluster.secret 을 설정해야 합니다.");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(CLUSTER_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(ClusterClient.SECRET_HEADER);
+        // 비교 시간으로 비밀값을 추측하지 못하도록 고정 시간 비교
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("클러스터 API 인증 실패: uri={}, remote={}", request.getRequestURI(), request.getRemoteAddr());
+            response.setStatus(401);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(
+                    objectMapper.writeValueAsBytes(new ErrorResponse("401", "클러스터 API 인증에 실패했습니다.")));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 노드 간 HTTP 호출
+ * - 다른 노드로 보내는 요청에는 보낸 노드 주소를 FORWARDED_HEADER 로 붙여, 받은 노드가 다시 전달하지 않도록 합니다.
+ * - 클러스터 API(/cluster/**) 호출에는 공유 비밀값을 SECRET_HEADER 로 붙입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterClient {
+
+    static final String FORWARDED_HEADER = "X-Point-Forwarded";
+    static final String SECRET_HEADER = "X-Point-Cluster-Secret";
+    private static final TypeReference<List<PointBatchResult>> BATCH_RESULTS = new TypeReference<>() {
+    };
+    // 담당 노드로 그대로 넘기는 요청 헤더
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of("Content-Type", "Accept", "Idempotency-Key");
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final String selfUrl;
+    private final String secret;
+
+    @Autowired
+    public ClusterClient(PointProperties properties, ObjectMapper objectMapper) {
+        this(properties.cluster(), objectMapper);
+    }
+
+    public ClusterClient(PointProperties.Cluster properties, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.forwardTimeoutMillis()))
+                .build();
+        this.objectMapper = objectMapper;
+        this.timeout = Duration.ofMillis(properties.forwardTimeoutMillis());
+        this.selfUrl = properties.selfUrl();
+        this.secret = properties.secret();
+    }
+
+    // 담당 노드로 요청 전달 - 응답 본문은 읽지 않은 스트림으로 반환
+    public HttpResponse<InputStream> forward(String owner, HttpServletRequest request)
+            throws IOException, InterruptedException {
+        String query = request.getQueryString();
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(
+                        URI.create(owner + request.getRequestURI() + (query == null ? "" : "?" + query)))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, selfUrl)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                builder.header(name, value);
+            }
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    // 일괄 처리 항목 중 담당 노드의 항목만 전달 - 노드별로 동시에 보내고, 항목별 결과를 요청 순서대로 반환
+    public CompletableFuture<List<PointBatchResult>> forwardBatch(String owner, List<PointCommand> commands)
+            throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(owner + "/point/batch"))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, selfUrl)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(commands)))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            try {
+                if (response.statusCode() != 200) {
+                    throw new IOException("일괄 처리 전달 실패: " + owner + " status=" + response.statusCode());
+                }
+                return objectMapper.readValue(response.body(), BATCH_RESULTS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // 이전 담당 노드에서 epoch 시점에 담당하던 유저의 잔액 이관
+    public UserPoint handOff(String previousOwner, long userId, long epoch) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(previousOwner + "/cluster/handoff/" + userId + "?epoch=" + epoch))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, selfUrl)
+                .header(SECRET_HEADER, secret)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("잔액 이관 실패: " + previousOwner + " status=" + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), UserPoint.class);
+    }
+
+    // 다른 노드에 멤버 변경 전파 - 받은 노드는 다시 전파하지 않음
+    public void publishMembers(String member, List<String> members) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(member + "/cluster/members"))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, selfUrl)
+                .header(SECRET_HEADER, secret)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(members)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IOException("멤버 변경 전파 실패: " + member + " status=" + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.cluster;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클러스터 API - 모든 요청은 X-Point-Cluster-Secret 헤더로 공유 비밀값을 보내야 합니다. (ClusterAuthFilter)
+ */
+@RestController
+@RequestMapping("/cluster")
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterController {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterController.class);
+    private final ClusterMembership membership;
+    private final ClusterClient clusterClient;
+    private final ClusterHandoff clusterHandoff;
+
+    public ClusterController(ClusterMembership membership, ClusterClient clusterClient,
+                             ClusterHandoff clusterHandoff) {
+        this.membership = membership;
+        this.clusterClient = clusterClient;
+        this.clusterHandoff = clusterHandoff;
+    }
+
+    /**
+     * 현재 클러스터 멤버를 조회합니다.
+     */
+    @GetMapping("members")
+    public List<String> members() {
+        return membership.topology().members();
+    }
+
+    /**
+     * 클러스터 멤버를 변경합니다. (노드 추가/제거)
+     * - 직접 받은 요청이면 기존/변경 멤버 모두에게 전파합니다.
+     * - 담당이 바뀐 유저의 잔액은 새 담당 노드가 처음 요청을 받을 때 이전 담당 노드에서 가져오므로, 제거한 노드는 이관이 끝날 때까지 실행해 두어야 합니다.
+     *   (멤버가 연속으로 바뀌면 이전 담당 노드들을 차례로 거쳐 가져오므로, 그 사이 제거한 노드도 마찬가지입니다.)
+     */
+    @PutMapping("members")
+    public List<String> updateMembers(
+            @RequestBody List<String> members,
+            @RequestHeader(value = ClusterClient.FORWARDED_HEADER, required = false) String forwardedBy
+    ) {
+        log.info("클러스터 멤버 변경 요청: members={}, forwardedBy={}", members, forwardedBy);
+        List<String> previous = membership.topology().members();
+        ClusterMembership.Topology updated = membership.update(members);
+        if (forwardedBy == null) {
+            Set<String> others = new LinkedHashSet<>(previous);
+            others.addAll(members);
+            others.remove(membership.selfUrl());
+            for (String member : others) {
+                publish(member, members);
+            }
+        }
+        return updated.members();
+    }
+
+    /**
+     * 담당이 바뀐 유저의 잔액을 새 담당 노드에 넘겨줍니다.
+     * - epoch : 이 노드가 유저를 담당했던 epoch, 그 담당 구간의 잔액 이관을 먼저 마친 뒤 잔액을 반환합니다.
+     */
+    @PostMapping("handoff/{id}")
+    public UserPoint handOff(
+            @PathVariable long id,
+            @RequestParam long epoch
+    ) {
+        log.info("잔액 이관 요청: userId={}, epoch={}", id, epoch);
+        return clusterHandoff.handOff(id, epoch);
+    }
+
+    private void publish(String member, List<String> members) {
+        try {
+            clusterClient.publishMembers(member, members);
+        } catch (IOException e) {
+            log.warn("멤버 변경 전파 실패: member={}", member, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("멤버 변경 전파 중단: member={}", member);
+        }
+    }
+}
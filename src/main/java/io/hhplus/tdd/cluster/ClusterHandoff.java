@@ -0,0 +1,96 @@
+package io.hhplus.tdd.cluster;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멤버 변경 후 담당이 바뀐 유저의 잔액 이관
+ * - 노드가 유저를 끊김 없이 담당하는 구간(담당 시작 epoch ~)마다, 구간의 첫 요청에서 직전 epoch 의 담당 노드로부터 잔액을 한 번만 가져옵니다.
+ * - 직전 담당 노드도 자기 담당 구간의 이관을 먼저 마친 뒤 잔액을 넘겨주므로, 멤버가 연속으로 바뀌어도 잔액을 가진 노드까지 따라갑니다.
+ * - 같은 구간의 요청이 동시에 오면 한 요청만 가져오고 나머지는 그 결과를 기다립니다.
+ * - 가져오지 못하면 기록을 지워 다음 요청에서 다시 시도합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterHandoff {
+
+    private final ClusterMembership membership;
+    private final ClusterClient clusterClient;
+    private final PointService pointService;
+
+    // 이관을 시작한 담당 구간 - 이전 구간의 잔액을 다시 가져와 덮어쓰지 않도록 epoch 가 바뀌어도 유지
+    private final ConcurrentHashMap<Ownership, CompletableFuture<Void>> imports = new ConcurrentHashMap<>();
+
+    public ClusterHandoff(ClusterMembership membership, ClusterClient clusterClient, PointService pointService) {
+        this.membership = membership;
+        this.clusterClient = clusterClient;
+        this.pointService = pointService;
+    }
+
+    // 현재 링에서 이 노드가 담당하는 유저의 잔액 이관 - 이관이 끝날 때까지 대기
+    public void importIfMoved(ClusterMembership.Topology topology, long userId) {
+        importOwnershipOf(topology, userId, topology.epoch());
+    }
+
+    // epoch 에 이 노드가 담당했던 유저의 잔액을 새 담당 노드에 넘겨줌 - 그 담당 구간의 이관을 먼저 마침
+    public UserPoint handOff(long userId, long epoch) {
+        ClusterMembership.Topology topology = membership.topology();
+        if (epoch < 0 || epoch > topology.epoch() || !membership.isSelf(topology.ownerOf(userId, epoch))) {
+            throw new IllegalStateException("epoch " + epoch + " 에 이 노드가 담당한 유저가 아닙니다: " + userId);
+        }
+        importOwnershipOf(topology, userId, epoch);
+        return pointService.getUserPointOf(userId);
+    }
+
+    private void importOwnershipOf(ClusterMembership.Topology topology, long userId, long epoch) {
+        long start = topology.ownershipStartOf(userId, epoch);
+        if (start == 0) {
+            return;
+        }
+
+        Ownership ownership = new Ownership(userId, start);
+        CompletableFuture<Void> existing = imports.get(ownership);
+        if (existing == null) {
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            existing = imports.putIfAbsent(ownership, mine);
+            if (existing == null) {
+                importFrom(topology.ownerOf(userId, start - 1), start - 1, ownership, mine);
+                return;
+            }
+        }
+        existing.join();
+    }
+
+    private void importFrom(String previousOwner, long previousEpoch, Ownership ownership,
+                            CompletableFuture<Void> mine) {
+        try {
+            UserPoint handedOff = clusterClient.handOff(previousOwner, ownership.userId(), previousEpoch);
+            pointService.importUserPoint(ownership.userId(), handedOff.point());
+            mine.complete(null);
+        } catch (IOException e) {
+            fail(ownership, mine, new UncheckedIOException(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(ownership, mine, new IllegalStateException("잔액 이관 대기 중 인터럽트", e));
+        } catch (RuntimeException e) {
+            fail(ownership, mine, e);
+        }
+    }
+
+    private void fail(Ownership ownership, CompletableFuture<Void> mine, RuntimeException e) {
+        imports.remove(ownership, mine);
+        mine.completeExceptionally(e);
+        throw e;
+    }
+
+    // 유저를 끊김 없이 담당하기 시작한 epoch
+    private record Ownership(long userId, long startEpoch) {
+    }
+}
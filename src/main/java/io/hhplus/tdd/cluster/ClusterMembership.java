@@ -0,0 +1,95 @@
+package io.hhplus.tdd.cluster;
+
+import io.hhplus.tdd.common.PointProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클러스터 멤버와 해시 링
+ * - 멤버가 바뀌어도 이전 링을 모두 보관해, 여러 번 연속으로 담당이 바뀐 유저도 잔액을 가진 노드를 따라갈 수 있게 합니다.
+ * - epoch : 멤버 변경 횟수, epoch 번째 링은 rings 의 epoch 번째 원소
+ */
+@Component
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterMembership {
+
+    private final String selfUrl;
+    private final int virtualNodes;
+    private volatile Topology topology;
+
+    @Autowired
+    public ClusterMembership(PointProperties properties) {
+        this(properties.cluster());
+    }
+
+    public ClusterMembership(PointProperties.Cluster properties) {
+        this.selfUrl = properties.selfUrl();
+        this.virtualNodes = properties.virtualNodes();
+        this.topology = new Topology(0L, List.of(new ConsistentHashRing(properties.members(), virtualNodes)));
+    }
+
+    public String selfUrl() {
+        return selfUrl;
+    }
+
+    public boolean isSelf(String member) {
+        return selfUrl.equals(member);
+    }
+
+    public Topology topology() {
+        return topology;
+    }
+
+    // 멤버 변경 - 같은 멤버면 무시, 현재 링은 이전 링 목록의 마지막이 됨
+    public synchronized Topology update(List<String> members) {
+        Topology current = topology;
+        if (current.ring().members().equals(members)) {
+            return current;
+        }
+        List<ConsistentHashRing> rings = new ArrayList<>(current.rings());
+        rings.add(new ConsistentHashRing(members, virtualNodes));
+        topology = new Topology(current.epoch() + 1, List.copyOf(rings));
+        return topology;
+    }
+
+    /**
+     * 특정 시점의 링
+     * - rings : 기동 후 epoch 0 부터 현재 epoch 까지의 링
+     */
+    public record Topology(
+            long epoch,
+            List<ConsistentHashRing> rings
+    ) {
+
+        public ConsistentHashRing ring() {
+            return rings.get((int) epoch);
+        }
+
+        public String ownerOf(long userId) {
+            return ring().ownerOf(userId);
+        }
+
+        // epoch 번째 링의 담당 노드
+        public String ownerOf(long userId, long epoch) {
+            return rings.get((int) epoch).ownerOf(userId);
+        }
+
+        // epoch 의 담당 노드가 끊김 없이 담당하기 시작한 epoch - 0 이면 기동 때부터 담당
+        public long ownershipStartOf(long userId, long epoch) {
+            String owner = ownerOf(userId, epoch);
+            long start = epoch;
+            while (start > 0 && ownerOf(userId, start - 1).equals(owner)) {
+                start--;
+            }
+            return start;
+        }
+
+        public List<String> members() {
+            return ring().members();
+        }
+    }
+}
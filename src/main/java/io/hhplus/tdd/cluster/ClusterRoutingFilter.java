@@ -0,0 +1,260 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointBatchSizeExceededException;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.wire.PointBinaryCodec;
+import io.hhplus.tdd.wire.PointBinaryMessageConverter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 유저 단위 요청(/point/{id}/**) 라우팅
+ * - 이 노드가 담당하는 유저면 담당이 바뀐 유저의 잔액 이관을 마친 뒤 그대로 처리합니다.
+ * - 다른 노드가 담당하는 유저면 담당 노드로 요청을 전달하고 응답을 그대로 돌려줍니다.
+ * - 전달받은 요청인데 이 노드의 링에서는 담당이 아니라면 노드 간 멤버가 어긋난 것이므로, 다시 전달하지 않고 421 로 거절합니다.
+ * - 여러 유저를 다루는 일괄 처리(/point/batch)는 항목을 담당 노드별로 나눠, 이 노드 담당 항목은 직접 처리하고 나머지는 담당 노드로 동시에 전달한 뒤
+ *   항목별 결과를 요청 순서대로 합쳐 돌려줍니다. 전달받은 일괄 처리에 이 노드 담당이 아닌 항목이 있으면 그 항목만 421 로 거절합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.cluster.enabled", havingValue = "true")
+public class ClusterRoutingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRoutingFilter.class);
+    private static final Pattern USER_PATH = Pattern.compile("^/point/(-?\\d+)(/.*)?$");
+    private static final String BATCH_PATH = "/point/batch";
+    private static final int MISDIRECTED_REQUEST = 421;
+    private static final TypeReference<List<PointCommand>> COMMANDS = new TypeReference<>() {
+    };
+
+    private final ClusterMembership membership;
+    private final ClusterClient clusterClient;
+    private final ClusterHandoff clusterHandoff;
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+
+    public ClusterRoutingFilter(ClusterMembership membership, ClusterClient clusterClient,
+                                ClusterHandoff clusterHandoff, PointService pointService,
+                                PointProperties properties, ObjectMapper objectMapper) {
+        this.membership = membership;
+        this.clusterClient = clusterClient;
+        this.clusterHandoff = clusterHandoff;
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = properties.batch().maxSize();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isBatch(request) && !USER_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isBatch(request)) {
+            routeBatch(request, response);
+            return;
+        }
+        Matcher matcher = USER_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long userId = Long.parseLong(matcher.group(1));
+        ClusterMembership.Topology topology = membership.topology();
+        String owner = topology.ownerOf(userId);
+
+        if (membership.isSelf(owner)) {
+            try {
+                clusterHandoff.importIfMoved(topology, userId);
+            } catch (RuntimeException e) {
+                log.warn("잔액 이관 실패: userId={}", userId, e);
+                writeError(response, 503, "이전 담당 노드에서 잔액을 가져오지 못했습니다.");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (request.getHeader(ClusterClient.FORWARDED_HEADER) != null) {
+            writeError(response, MISDIRECTED_REQUEST, "이 노드가 담당하는 유저가 아닙니다.");
+            return;
+        }
+        forward(owner, request, response);
+    }
+
+    private static boolean isBatch(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && BATCH_PATH.equals(request.getRequestURI());
+    }
+
+    // 일괄 처리 - 담당 노드별로 나눠 처리하고 항목별 결과를 요청 순서대로 합침
+    private void routeBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        List<PointCommand> commands;
+        try {
+            byte[] body = request.getInputStream().readAllBytes();
+            commands = isBinary(request.getContentType())
+                    ? PointBinaryCodec.readCommands(new ByteArrayInputStream(body))
+                    : objectMapper.readValue(body, COMMANDS);
+        } catch (IOException e) {
+            writeError(response, 400, "일괄 처리 요청을 읽을 수 없습니다.");
+            return;
+        }
+        if (commands.size() > maxBatchSize) {
+            writeError(response, 400, new PointBatchSizeExceededException(commands.size(), maxBatchSize).getMessage());
+            return;
+        }
+
+        ClusterMembership.Topology topology = membership.topology();
+        boolean forwarded = request.getHeader(ClusterClient.FORWARDED_HEADER) != null;
+        PointBatchResult[] results = new PointBatchResult[commands.size()];
+        List<Integer> local = new ArrayList<>();
+        Map<String, List<Integer>> remote = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            String owner = topology.ownerOf(commands.get(i).userId());
+            if (membership.isSelf(owner)) {
+                local.add(i);
+            } else if (forwarded) {
+                // 노드 간 멤버가 어긋난 항목은 다시 전달하지 않음
+                results[i] = PointBatchResult.failure(commands.get(i),
+                        new ErrorResponse(String.valueOf(MISDIRECTED_REQUEST), "이 노드가 담당하는 유저가 아닙니다."));
+            } else {
+                remote.computeIfAbsent(owner, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 다른 노드 담당 항목을 먼저 보내 두고, 응답을 기다리는 동안 이 노드 담당 항목 처리
+        Map<String, CompletableFuture<List<PointBatchResult>>> forwardedResults = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : remote.entrySet()) {
+            forwardedResults.put(entry.getKey(), forwardBatch(entry.getKey(), select(commands, entry.getValue())));
+        }
+        applyLocally(topology, commands, local, results);
+        for (Map.Entry<String, List<Integer>> entry : remote.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            try {
+                List<PointBatchResult> owned = forwardedResults.get(entry.getKey()).join();
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = owned.get(i);
+                }
+            } catch (RuntimeException e) {
+                log.warn("담당 노드로 일괄 처리 전달 실패: owner={}", entry.getKey(), e);
+                for (int index : indexes) {
+                    results[index] = PointBatchResult.failure(commands.get(index),
+                            new ErrorResponse("502", "담당 노드에 연결할 수 없습니다."));
+                }
+            }
+        }
+        writeBatchResults(request, response, Arrays.asList(results));
+    }
+
+    private CompletableFuture<List<PointBatchResult>> forwardBatch(String owner, List<PointCommand> commands) {
+        try {
+            return clusterClient.forwardBatch(owner, commands);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 이 노드 담당 항목 - 담당이 바뀐 유저의 잔액 이관을 마친 항목만 반영
+    private void applyLocally(ClusterMembership.Topology topology, List<PointCommand> commands,
+                              List<Integer> local, PointBatchResult[] results) {
+        List<Integer> imported = new ArrayList<>(local.size());
+        for (int index : local) {
+            PointCommand command = commands.get(index);
+            try {
+                clusterHandoff.importIfMoved(topology, command.userId());
+                imported.add(index);
+            } catch (RuntimeException e) {
+                log.warn("잔액 이관 실패: userId={}", command.userId(), e);
+                results[index] = PointBatchResult.failure(command,
+                        new ErrorResponse("503", "이전 담당 노드에서 잔액을 가져오지 못했습니다."));
+            }
+        }
+        if (imported.isEmpty()) {
+            return;
+        }
+        List<PointBatchResult> applied = pointService.applyBatch(select(commands, imported));
+        for (int i = 0; i < imported.size(); i++) {
+            results[imported.get(i)] = applied.get(i);
+        }
+    }
+
+    private static List<PointCommand> select(List<PointCommand> commands, List<Integer> indexes) {
+        List<PointCommand> selected = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            selected.add(commands.get(index));
+        }
+        return selected;
+    }
+
+    private void writeBatchResults(HttpServletRequest request, HttpServletResponse response,
+                                   List<PointBatchResult> results) throws IOException {
+        response.setStatus(200);
+        if (isBinary(request.getHeader("Accept"))) {
+            response.setContentType(PointBinaryMessageConverter.MEDIA_TYPE_VALUE);
+            PointBinaryCodec.writeBatchResults(results, response.getOutputStream());
+        } else {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), results);
+        }
+    }
+
+    private static boolean isBinary(String mediaType) {
+        return mediaType != null && mediaType.contains(PointBinaryMessageConverter.MEDIA_TYPE_VALUE);
+    }
+
+    private void forward(String owner, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpResponse<InputStream> forwarded;
+        try {
+            forwarded = clusterClient.forward(owner, request);
+        } catch (IOException e) {
+            log.warn("담당 노드로 요청 전달 실패: owner={}", owner, e);
+            writeError(response, 502, "담당 노드에 연결할 수 없습니다.");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, 503, "담당 노드 응답 대기 중 중단되었습니다.");
+            return;
+        }
+
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().firstValue("Content-Type").ifPresent(response::setContentType);
+        try (InputStream body = forwarded.body()) {
+            body.transferTo(response.getOutputStream());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(
+                objectMapper.writeValueAsBytes(new ErrorResponse(String.valueOf(status), message)));
+    }
+}
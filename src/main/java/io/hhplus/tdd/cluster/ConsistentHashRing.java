@@ -0,0 +1,75 @@
+package io.hhplus.tdd.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 유저 id 를 노드에 배정하는 consistent hash 링
+ * - 노드마다 virtualNodes 개의 점을 링에 배치하고, 유저 id 해시에서 시계 방향으로 처음 만나는 점의 노드가 담당합니다.
+ * - 노드가 추가/제거되면 그 노드의 점과 인접한 구간의 유저만 담당이 바뀝니다. (약 1 / 노드 수)
+ * - 불변 객체이므로 멤버가 바뀌면 새 링을 만들어 교체합니다.
+ */
+public class ConsistentHashRing {
+
+    private final List<String> members;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(List<String> members, int virtualNodes) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("클러스터 멤버가 없습니다.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다.");
+        }
+        this.members = List.copyOf(members);
+
+        // (해시, 멤버 순번) 을 해시 순으로 정렬
+        int size = this.members.size() * virtualNodes;
+        long[][] placed = new long[size][];
+        int index = 0;
+        for (int member = 0; member < this.members.size(); member++) {
+            for (int i = 0; i < virtualNodes; i++) {
+                placed[index++] = new long[]{hash(this.members.get(member) + "#" + i), member};
+            }
+        }
+        Arrays.sort(placed, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = placed[i][0];
+            owners[i] = this.members.get((int) placed[i][1]);
+        }
+    }
+
+    // 유저 담당 노드
+    public String ownerOf(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // 연속된 유저 id 가 링 위에 고르게 퍼지도록 비트를 섞음 (splitmix64)
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
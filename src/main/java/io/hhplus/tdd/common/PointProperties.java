@@ -0,0 +1,217 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.point.AsyncExecutorMode;
+import io.hhplus.tdd.point.HistoryDurability;
+import io.hhplus.tdd.point.PointEngineMode;
+import io.hhplus.tdd.point.ShardBackpressure;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * application.yml 의 point.* 설정
+ */
+@ConfigurationProperties("point")
+public record PointProperties(
+        @DefaultValue History history,
+        @DefaultValue Cache cache,
+        @DefaultValue Async async,
+        @DefaultValue Batch batch,
+        @DefaultValue Metrics metrics,
+        @DefaultValue Wal wal,
+        @DefaultValue Snapshot snapshot,
+        @DefaultValue Table table,
+        @DefaultValue HistoryPage historyPage,
+        @DefaultValue Engine engine,
+        @DefaultValue Idempotency idempotency,
+        @DefaultValue Cluster cluster,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue Events events
+) {
+
+    /**
+     * 히스토리 write-behind 설정
+     * - durability : ASYNC(기록 대기 없음) / SYNC(테이블 반영까지 대기)
+     *   PointHistoryTable 은 동시 insert 를 지원하지 않아 drainer 하나가 반영하므로, SYNC 는 전체 충전/사용 처리량이 테이블 반영 속도(초당 수 건)에 묶입니다.
+     *   기본은 ASYNC 이며, 히스토리 유실을 막으려면 SYNC 대신 WAL(wal.enabled)을 켜 재시작 시 복구합니다.
+     *   ASYNC 는 히스토리 반영 전에 응답하므로 충전/사용 직후의 히스토리 조회에는 방금 요청이 없을 수 있습니다. (잔액은 응답 시점에 반영)
+     * - queueCapacity : 대기열 최대 크기, 가득 차면 호출 스레드가 대기 (ASYNC 도 테이블 반영 속도를 넘는 요청이 계속되면 이 크기에서 대기)
+     * - batchSize : drainer 가 한 번에 꺼내 반영하는 최대 건수
+     * - store : heap(PointHistoryTable) / columnar(ColumnarPointHistoryTable, 유저별 컬럼 압축 저장)
+     */
+    public record History(
+            @DefaultValue("ASYNC") HistoryDurability durability,
+            @DefaultValue("10000") int queueCapacity,
+            @DefaultValue("100") int batchSize,
+            @DefaultValue("heap") String store
+    ) {
+    }
+
+    /**
+     * 잔액 캐시 설정
+     * - maximumSize : 캐시에 보관할 최대 유저 수, 초과 시 LRU 제거
+     */
+    public record Cache(
+            @DefaultValue("100000") int maximumSize
+    ) {
+    }
+
+    /**
+     * 비동기 API 설정
+     * - executor : POOL(고정 크기 스레드 풀) / VIRTUAL(요청마다 가상 스레드, JDK 21+) / CALLER(요청 스레드에서 바로 실행)
+     * - poolSize : POOL 모드에서 충전/사용/조회를 실행하는 스레드 수
+     */
+    public record Async(
+            @DefaultValue("POOL") AsyncExecutorMode executor,
+            @DefaultValue("64") int poolSize
+    ) {
+    }
+
+    /**
+     * 일괄 처리 설정
+     * - threadsPerCore : 코어당 유저 단위 작업을 병렬로 실행할 스레드 수
+     * - maxSize : 요청 하나에 담을 수 있는 최대 항목 수, 초과 시 요청 전체를 400 으로 거절
+     */
+    public record Batch(
+            @DefaultValue("8") int threadsPerCore,
+            @DefaultValue("1000") int maxSize
+    ) {
+    }
+
+    /**
+     * 지표 수집 설정
+     * - enabled : false 일 경우 히스토그램/거절 건수를 기록하지 않음
+     */
+    public record Metrics(
+            @DefaultValue("true") boolean enabled
+    ) {
+    }
+
+    /**
+     * 충전/사용 write-ahead log 설정
+     * - enabled : true 일 경우 충전/사용을 로그에 기록하고 기동 시 로그로 테이블 복구 (table.store=primitive 필요)
+     * - directory : 세그먼트 파일 디렉토리
+     * - segmentSize : 세그먼트 파일 크기(byte), 가득 차면 다음 세그먼트로 넘어감
+     * - forceOnCommit : true 일 경우 응답 전 디스크 반영(force)까지 대기, false 일 경우 OS 에 맡김
+     */
+    public record Wal(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/wal") String directory,
+            @DefaultValue("67108864") int segmentSize,
+            @DefaultValue("true") boolean forceOnCommit
+    ) {
+    }
+
+    /**
+     * 잔액 스냅샷 설정 (wal.enabled 가 true 일 때만 동작)
+     * - enabled : true 일 경우 주기적으로 잔액 스냅샷을 기록하고, 기동 시 스냅샷 이후의 로그만 재생
+     * - path : 스냅샷 파일 경로
+     * - intervalSeconds : 스냅샷 기록 주기
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/snapshot/point.snapshot") String path,
+            @DefaultValue("60") long intervalSeconds
+    ) {
+    }
+
+    /**
+     * 잔액 저장소 설정
+     * - store : heap(UserPointTable) / primitive(PrimitiveUserPointTable, primitive 배열 기반)
+     */
+    public record Table(
+            @DefaultValue("heap") String store
+    ) {
+    }
+
+    /**
+     * 히스토리 조회 API 설정
+     * - maxLimit : limit 을 지정한 페이지 하나의 최대 건수, 더 큰 limit 은 이 값으로 제한 (limit 을 지정하지 않으면 전체 조회)
+     */
+    public record HistoryPage(
+            @DefaultValue("1000") int maxLimit
+    ) {
+    }
+
+    /**
+     * 잔액 갱신 방식 설정
+     * - mode : LOCK(유저 락 + 요청 결합) / CAS(원자적 잔액 셀 + 잔액 write-behind) / SHARDED(shard 단일 writer)
+     * - shardCount : SHARDED 모드의 shard(스레드) 수, 0 이면 코어 수
+     * - queueCapacity : shard 별 대기열 크기
+     * - backpressure : 대기열이 가득 찼을 때 BLOCK(대기) / REJECT(거절)
+     * - maxUsersPerShard : SHARDED 모드에서 shard 가 잔액을 보관하는 최대 유저 수, 넘으면 가장 오래 사용하지 않은 유저부터 제거
+     */
+    public record Engine(
+            @DefaultValue("LOCK") PointEngineMode mode,
+            @DefaultValue("0") int shardCount,
+            @DefaultValue("1024") int queueCapacity,
+            @DefaultValue("BLOCK") ShardBackpressure backpressure,
+            @DefaultValue("100000") int maxUsersPerShard
+    ) {
+    }
+
+    /**
+     * Idempotency-Key 중복 요청 캐시 설정
+     * - maximumSize : 보관할 최대 키 수, 초과 시 오래된 키부터 제거
+     * - ttlSeconds : 키 보관 시간, 지나면 같은 키도 새 요청으로 처리
+     */
+    public record Idempotency(
+            @DefaultValue("100000") int maximumSize,
+            @DefaultValue("3600") long ttlSeconds
+    ) {
+    }
+
+    /**
+     * 클러스터 설정
+     * - enabled : true 일 경우 유저 id 의 consistent hash 로 담당 노드를 정하고, 다른 노드 담당 요청은 담당 노드로 전달
+     * - selfUrl : 이 노드의 주소, members 중 하나와 같아야 함
+     * - members : 클러스터 노드 주소 목록, 실행 중에는 PUT /cluster/members 로 변경
+     * - virtualNodes : 노드당 해시 링에 배치할 가상 노드 수
+     * - forwardTimeoutMillis : 담당 노드로 전달한 요청의 응답 대기 시간
+     * - secret : 클러스터 API(/cluster/**) 호출에 X-Point-Cluster-Secret 헤더로 붙이는 노드 간 공유 비밀값, 클러스터 모드에서는 필수
+     */
+    public record Cluster(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("http://localhost:8080") String selfUrl,
+            @DefaultValue("http://localhost:8080") List<String> members,
+            @DefaultValue("128") int virtualNodes,
+            @DefaultValue("5000") long forwardTimeoutMillis,
+            @DefaultValue("") String secret
+    ) {
+    }
+
+    /**
+     * 충전/사용 요청 허가(admission) 설정
+     * - enabled : true 일 경우 한도를 넘는 요청을 대기시키지 않고 바로 429 로 거절
+     * - userPermitsPerSecond / userBurst : 유저별 초당 허용 요청 수 / 순간 최대 요청 수
+     * - globalPermitsPerSecond / globalBurst : 전체 초당 허용 요청 수 / 순간 최대 요청 수, 0 이면 제한 없음
+     * - maxWaitersPerUser : 유저별로 처리 중이거나 대기 중인 최대 요청 수
+     * - maximumUsers : 유저별 한도 상태를 보관할 유저 수, 초과 시 한가한 유저부터 제거
+     */
+    public record RateLimit(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100") double userPermitsPerSecond,
+            @DefaultValue("100") int userBurst,
+            @DefaultValue("0") double globalPermitsPerSecond,
+            @DefaultValue("1000") int globalBurst,
+            @DefaultValue("32") int maxWaitersPerUser,
+            @DefaultValue("100000") int maximumUsers
+    ) {
+    }
+
+    /**
+     * 충전/사용 이벤트 로그(publish/subscribe) 설정
+     * - enabled : true 일 경우 테이블에 반영된 히스토리를 이벤트로 발행하고 GET /point/events 로 구독 가능
+     * - capacity : 이벤트 ring buffer 크기, 구독자가 이보다 뒤처지면 오래된 이벤트를 덮어씀
+     * - maxSubscribers : 동시에 구독할 수 있는 최대 구독자 수
+     * - heartbeatMillis : 새 이벤트가 없을 때 SSE 연결 유지용 주석을 보내는 주기
+     */
+    public record Events(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("65536") int capacity,
+            @DefaultValue("64") int maxSubscribers,
+            @DefaultValue("15000") long heartbeatMillis
+    ) {
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.database;
+
+import java.util.Arrays;
+
+/**
+ * userId → 잔액 primitive 해시 맵 (open addressing, linear probing)
+ * - 유저 수가 수천만 단위여도 항목당 객체를 만들지 않도록 long 배열 두 개에 보관합니다.
+ * - 스레드 안전하지 않으므로 한 스레드에서만 사용합니다.
+ * - Long.MIN_VALUE 는 빈 슬롯 표시로 쓰므로 userId 로 사용할 수 없습니다.
+ */
+public class BalanceMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public BalanceMap() {
+        this(16);
+    }
+
+    public BalanceMap(int expectedSize) {
+        allocate(Integer.highestOneBit((int) Math.max(16, expectedSize / LOAD_FACTOR) - 1) << 1);
+    }
+
+    // 잔액 조회 - 없으면 0
+    public long get(long userId) {
+        int index = indexOf(userId);
+        return keys[index] == EMPTY ? 0L : values[index];
+    }
+
+    public void put(long userId, long balance) {
+        int index = indexOf(userId);
+        if (keys[index] == EMPTY) {
+            insertAt(index, userId, balance);
+        } else {
+            values[index] = balance;
+        }
+    }
+
+    // 잔액 증감 후 변경된 잔액 반환
+    public long add(long userId, long delta) {
+        int index = indexOf(userId);
+        if (keys[index] == EMPTY) {
+            insertAt(index, userId, delta);
+            return delta;
+        }
+        values[index] += delta;
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void insertAt(int index, long userId, long balance) {
+        if (userId == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 userId 입니다: " + userId);
+        }
+        keys[index] = userId;
+        values[index] = balance;
+        if (++size > resizeAt) {
+            resize();
+        }
+    }
+
+    private int indexOf(long userId) {
+        int index = hash(userId) & mask;
+        while (keys[index] != EMPTY && keys[index] != userId) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long userId, long balance);
+    }
+}
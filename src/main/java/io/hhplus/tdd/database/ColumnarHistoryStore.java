@@ -0,0 +1,228 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 컬럼 기반 히스토리 저장소
+ * - 최근 히스토리는 id / amount / type / updateMillis 별 primitive 배열(tail)에 보관합니다.
+ * - tail 이 CHUNK_SIZE 건이 차면 직전 값과의 차이(delta)를 varint 로 압축한 불변 chunk 로 봉인합니다.
+ * - PointHistory 객체는 보관하지 않고, 조회 시점에만 만들어 반환합니다.
+ * - 추가는 단일 writer 만 수행하고, 조회는 여러 스레드에서 락 없이 수행합니다.
+ */
+public class ColumnarHistoryStore {
+
+    static final int CHUNK_SIZE = 128;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ConcurrentHashMap<Long, UserColumns> users = new ConcurrentHashMap<>();
+
+    // 히스토리 추가 - 단일 writer
+    public void append(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        users.computeIfAbsent(userId, key -> new UserColumns()).append(id, amount, type, updateMillis);
+    }
+
+    // 유저 히스토리 조회 - 추가 순서(id 오름차순)
+    public List<PointHistory> historiesOf(long userId) {
+        UserColumns columns = users.get(userId);
+        if (columns == null) {
+            return List.of();
+        }
+        return columns.materialize(userId);
+    }
+
+    // afterId 이후 히스토리를 id 오름차순으로 순회 - visitor 가 false 를 반환하면 중단, PointHistory 는 만들지 않음
+    public void forEach(long userId, long afterId, RowVisitor visitor) {
+        UserColumns columns = users.get(userId);
+        if (columns != null) {
+            columns.forEach(afterId, visitor);
+        }
+    }
+
+    // 보관 중인 배열이 차지하는 byte 수 (객체 헤더 제외)
+    public long allocatedBytes() {
+        long bytes = 0L;
+        for (UserColumns columns : users.values()) {
+            bytes += columns.allocatedBytes();
+        }
+        return bytes;
+    }
+
+    @FunctionalInterface
+    public interface RowVisitor {
+        boolean visit(long id, long amount, TransactionType type, long updateMillis);
+    }
+
+    /**
+     * 유저 한 명의 히스토리
+     * - writer 는 tail 원소를 먼저 기록한 뒤 size 를 갱신하고, 봉인/확장 시에는 새 state 를 만들어 교체합니다.
+     * - reader 는 state 를 한 번 읽고 그 tail 의 size 까지만 읽으므로 항상 일관된 구간만 봅니다.
+     */
+    private static class UserColumns {
+
+        private volatile State state = new State(new Chunk[0], new Tail(4));
+
+        void append(long id, long amount, TransactionType type, long updateMillis) {
+            State current = state;
+            Tail tail = current.tail();
+            if (tail.size == CHUNK_SIZE) {
+                Chunk[] chunks = Arrays.copyOf(current.chunks(), current.chunks().length + 1);
+                chunks[chunks.length - 1] = Chunk.seal(tail);
+                current = new State(chunks, new Tail(4));
+                state = current;
+                tail = current.tail();
+            } else if (tail.size == tail.ids.length) {
+                tail = tail.grow(Math.min(CHUNK_SIZE, tail.ids.length * 2));
+                current = new State(current.chunks(), tail);
+                state = current;
+            }
+            int index = tail.size;
+            tail.ids[index] = id;
+            tail.amounts[index] = amount;
+            tail.types[index] = (byte) type.ordinal();
+            tail.updateMillis[index] = updateMillis;
+            tail.size = index + 1;
+        }
+
+        List<PointHistory> materialize(long userId) {
+            List<PointHistory> histories = new ArrayList<>();
+            forEach(Long.MIN_VALUE, (id, amount, type, updateMillis) ->
+                    histories.add(new PointHistory(id, userId, amount, type, updateMillis)));
+            return Collections.unmodifiableList(histories);
+        }
+
+        void forEach(long afterId, RowVisitor visitor) {
+            State current = state;
+            int tailSize = current.tail().size;
+            for (Chunk chunk : current.chunks()) {
+                // afterId 이전 chunk 는 복호화하지 않고 건너뜀
+                if (chunk.lastId() > afterId && !chunk.forEach(afterId, visitor)) {
+                    return;
+                }
+            }
+            Tail tail = current.tail();
+            for (int i = 0; i < tailSize; i++) {
+                if (tail.ids[i] > afterId
+                        && !visitor.visit(tail.ids[i], tail.amounts[i], TYPES[tail.types[i]], tail.updateMillis[i])) {
+                    return;
+                }
+            }
+        }
+
+        long allocatedBytes() {
+            State current = state;
+            long bytes = (long) current.tail().ids.length * (Long.BYTES * 3 + 1);
+            for (Chunk chunk : current.chunks()) {
+                bytes += chunk.data().length + Long.BYTES;
+            }
+            return bytes;
+        }
+    }
+
+    private record State(Chunk[] chunks, Tail tail) {
+    }
+
+    // 봉인 전 최근 히스토리 - 컬럼별 primitive 배열
+    private static class Tail {
+
+        private final long[] ids;
+        private final long[] amounts;
+        private final byte[] types;
+        private final long[] updateMillis;
+        private volatile int size;
+
+        Tail(int capacity) {
+            this(new long[capacity], new long[capacity], new byte[capacity], new long[capacity], 0);
+        }
+
+        private Tail(long[] ids, long[] amounts, byte[] types, long[] updateMillis, int size) {
+            this.ids = ids;
+            this.amounts = amounts;
+            this.types = types;
+            this.updateMillis = updateMillis;
+            this.size = size;
+        }
+
+        Tail grow(int capacity) {
+            return new Tail(Arrays.copyOf(ids, capacity), Arrays.copyOf(amounts, capacity),
+                    Arrays.copyOf(types, capacity), Arrays.copyOf(updateMillis, capacity), size);
+        }
+    }
+
+    /**
+     * 봉인된 히스토리 CHUNK_SIZE 건
+     * - 행마다 [id 차이][amount * 타입 수 + 타입][updateMillis 차이] 를 zigzag varint 로 기록합니다.
+     * - 첫 행의 차이는 0 기준이므로 chunk 하나만으로 복원할 수 있습니다.
+     * - lastId : 마지막 행의 id, 커서 이전 chunk 를 건너뛰는 데 사용
+     */
+    private record Chunk(int count, long lastId, byte[] data) {
+
+        static Chunk seal(Tail tail) {
+            int count = tail.size;
+            byte[] buffer = new byte[count * 3 * 10];
+            int position = 0;
+            long previousId = 0L;
+            long previousMillis = 0L;
+            for (int i = 0; i < count; i++) {
+                position = writeVarint(buffer, position, zigzag(tail.ids[i] - previousId));
+                position = writeVarint(buffer, position, zigzag(tail.amounts[i] * TYPES.length + tail.types[i]));
+                position = writeVarint(buffer, position, zigzag(tail.updateMillis[i] - previousMillis));
+                previousId = tail.ids[i];
+                previousMillis = tail.updateMillis[i];
+            }
+            return new Chunk(count, tail.ids[count - 1], Arrays.copyOf(buffer, position));
+        }
+
+        // 순회를 끝까지 마쳤으면 true
+        boolean forEach(long afterId, RowVisitor visitor) {
+            int[] position = {0};
+            long id = 0L;
+            long updateMillis = 0L;
+            for (int i = 0; i < count; i++) {
+                id += unzigzag(readVarint(data, position));
+                long amountAndType = unzigzag(readVarint(data, position));
+                updateMillis += unzigzag(readVarint(data, position));
+                if (id > afterId && !visitor.visit(id, Math.floorDiv(amountAndType, TYPES.length),
+                        TYPES[(int) Math.floorMod(amountAndType, TYPES.length)], updateMillis)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVarint(byte[] buffer, int[] position) {
+        long value = 0L;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer[position[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        return value;
+    }
+}
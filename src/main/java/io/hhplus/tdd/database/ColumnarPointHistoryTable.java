@@ -0,0 +1,47 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 컬럼 기반 히스토리 테이블 - PointHistoryTable 과 같은 insert / selectAllByUserId 계약
+ * - 히스토리를 PointHistory 객체 대신 유저별 컬럼 배열과 압축 chunk 로 보관합니다. (ColumnarHistoryStore)
+ * - selectAllByUserId 는 전체 목록을 순회하지 않고 해당 유저의 히스토리만 복원합니다.
+ * - point.history.store=columnar 일 때 PointHistoryTable 대신 주입됩니다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "columnar")
+public class ColumnarPointHistoryTable extends PointHistoryTable {
+
+    private final ColumnarHistoryStore store = new ColumnarHistoryStore();
+    private long cursor = 1;
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long id = cursor++;
+        store.append(id, userId, amount, type, updateMillis);
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    // id 를 지정해 추가 - write-ahead log 순번을 id 로 쓰는 경우, 이후 발급하는 id 는 지정한 id 다음부터
+    public synchronized PointHistory insert(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        cursor = Math.max(cursor, id + 1);
+        store.append(id, userId, amount, type, updateMillis);
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return store.historiesOf(userId);
+    }
+
+    public ColumnarHistoryStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * write-ahead log 에 기록된 충전/사용 1건
+ */
+public record PointLogRecord(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.database;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 잔액 스냅샷 파일
+ * - [magic 4][cursor 8][유저 수 4][userId 8, 잔액 8]...
+ *   [집계 유저 수 4][userId 8, 충전 합계 8, 사용 합계 8, 거래 수 8, 마지막 거래 시각 8]...[crc32c 4]
+ * - cursor : 스냅샷에 반영된 write-ahead log 레코드 수 (이후 레코드만 재생하면 됨)
+ * - 집계가 없는 이전 형식(PTS1)은 형식 오류로 보고 로그 전체를 재생합니다.
+ * - 임시 파일에 기록하고 디스크 반영 후 교체하므로, 기록 중 종료되어도 이전 스냅샷이 남습니다.
+ */
+public class PointSnapshotFile {
+
+    private static final int MAGIC = 0x50545332;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+
+    public PointSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public void write(long cursor, BalanceMap balances, SummaryMap summaries) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            CRC32C crc = new CRC32C();
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 DataOutputStream out = new DataOutputStream(
+                         new CheckedOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), crc))) {
+                out.writeInt(MAGIC);
+                out.writeLong(cursor);
+                out.writeInt(balances.size());
+                balances.forEach((userId, balance) -> {
+                    try {
+                        out.writeLong(userId);
+                        out.writeLong(balance);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.writeInt(summaries.size());
+                summaries.forEach((userId, charged, used, count, lastActivityMillis) -> {
+                    try {
+                        out.writeLong(userId);
+                        out.writeLong(charged);
+                        out.writeLong(used);
+                        out.writeLong(count);
+                        out.writeLong(lastActivityMillis);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.writeInt((int) crc.getValue());
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("스냅샷을 기록할 수 없습니다: " + path, e);
+        }
+    }
+
+    // 스냅샷을 읽어 cursor 반환 - 파일이 없으면 0
+    public long read(BalanceMap balances, SummaryMap summaries) {
+        CRC32C crc = new CRC32C();
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(
+                     new CheckedInputStream(new BufferedInputStream(file, BUFFER_SIZE), crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("스냅샷 파일 형식이 아닙니다: " + path);
+            }
+            long cursor = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                balances.put(in.readLong(), in.readLong());
+            }
+            int summaryCount = in.readInt();
+            for (int i = 0; i < summaryCount; i++) {
+                summaries.add(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+            }
+            int actual = (int) crc.getValue();
+            if (in.readInt() != actual) {
+                throw new IllegalStateException("스냅샷 파일이 손상되었습니다: " + path);
+            }
+            return cursor;
+        } catch (NoSuchFileException e) {
+            return 0L;
+        } catch (IOException e) {
+            throw new IllegalStateException("스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
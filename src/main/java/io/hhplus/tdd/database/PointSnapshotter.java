@@ -0,0 +1,119 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 스냅샷 기록기
+ * - 직전 스냅샷 이후 write-ahead log 에 추가된 레코드를 잔액 / 유저별 집계 이미지에 합산(compaction)해 주기적으로 파일로 기록합니다.
+ * - 집계도 함께 기록하므로, 스냅샷 이후 로그만 재생해도 집계는 전체 히스토리 기준으로 복구됩니다.
+ * - 로그 파일만 읽으므로 기록 중에도 충전/사용은 멈추지 않습니다.
+ * - 기동 시 스냅샷을 먼저 읽고, 로그는 스냅샷의 cursor 이후만 재생합니다.
+ */
+@Component
+public class PointSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotFile snapshotFile;
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    // 스냅샷 스레드만 접근 (start 이전에는 기동 스레드)
+    private BalanceMap balances;
+    private SummaryMap summaries;
+    private long cursor;
+
+    @Autowired
+    public PointSnapshotter(PointWriteAheadLog pointWriteAheadLog, PointProperties properties) {
+        this(pointWriteAheadLog, properties.snapshot());
+    }
+
+    public PointSnapshotter(PointWriteAheadLog pointWriteAheadLog, PointProperties.Snapshot properties) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.snapshotFile = new PointSnapshotFile(Path.of(properties.path()));
+        this.enabled = properties.enabled() && pointWriteAheadLog.isEnabled();
+        this.intervalSeconds = properties.intervalSeconds();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 최근 스냅샷을 읽어 잔액과 집계를 채우고 cursor 반환 - 스냅샷이 없거나 손상되었으면 0 (로그 전체 재생)
+    public long restore(BalanceMap balanceTarget, SummaryMap summaryTarget) {
+        if (!enabled) {
+            return 0L;
+        }
+        try {
+            return snapshotFile.read(balanceTarget, summaryTarget);
+        } catch (IllegalStateException e) {
+            log.warn("스냅샷을 사용할 수 없어 로그 전체를 재생합니다.", e);
+            balanceTarget.clear();
+            summaryTarget.clear();
+            return 0L;
+        }
+    }
+
+    // 복구가 끝난 잔액, 집계와 cursor 부터 주기적 스냅샷 시작
+    public void start(BalanceMap recoveredBalances, SummaryMap recoveredSummaries, long recoveredCursor) {
+        if (!enabled) {
+            return;
+        }
+        this.balances = recoveredBalances;
+        this.summaries = recoveredSummaries;
+        this.cursor = recoveredCursor;
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    // 직전 스냅샷 이후의 로그를 합산해 기록하고 새 cursor 반환
+    public synchronized long snapshot() {
+        if (balances == null) {
+            return cursor;
+        }
+        long flushed = pointWriteAheadLog.flush();
+        if (flushed == cursor) {
+            return cursor;
+        }
+        pointWriteAheadLog.replay(cursor, flushed, record -> {
+            boolean charge = record.type() == TransactionType.CHARGE;
+            balances.add(record.userId(), charge ? record.amount() : -record.amount());
+            summaries.add(record.userId(), charge ? record.amount() : 0L, charge ? 0L : record.amount(),
+                    1L, record.updateMillis());
+        });
+        // 파일 기록이 실패해도 잔액/집계 이미지는 이미 합산되었으므로 cursor 를 먼저 옮김
+        cursor = flushed;
+        snapshotFile.write(cursor, balances, summaries);
+        return cursor;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void snapshotQuietly() {
+        try {
+            long startedAt = System.nanoTime();
+            long snapshotCursor = snapshot();
+            log.info("스냅샷 기록 완료: cursor={}, users={}, elapsedMs={}",
+                    snapshotCursor, balances.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("스냅샷 기록 실패", e);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 충전/사용 write-ahead log
+ * - 충전/사용 1건을 고정 길이(32 byte) 레코드로 memory-mapped 세그먼트 파일에 추가합니다.
+ *   [userId 8][amount 8][type 4][updateMillis 8][crc32c 4]
+ * - sync 는 group force 로 동작합니다. 먼저 force 한 스레드가 그 시점까지 추가된 레코드를 모두 디스크에 반영하고, 뒤따르는 스레드는 기다리기만 합니다.
+ * - 세그먼트가 가득 차면 force 후 다음 세그먼트(wal-{첫 레코드 시퀀스}.log)로 넘어갑니다.
+ * - 마지막 세그먼트에서 crc 가 맞지 않는 레코드부터는 기록이 끝나지 않은 것으로 보고 버립니다.
+ */
+@Component
+public class PointWriteAheadLog {
+
+    static final int RECORD_SIZE = 32;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final boolean enabled;
+    private final boolean forceOnCommit;
+    private final Path directory;
+    private final int recordsPerSegment;
+
+    // 추가 - appendLock 으로 보호
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+    private Segment current;
+    private long nextSequence;
+
+    // force - forceLock 을 가진 스레드 하나만 수행
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final AtomicLong durableSequence = new AtomicLong();
+
+    @Autowired
+    public PointWriteAheadLog(PointProperties properties) {
+        this(properties.wal());
+    }
+
+    public PointWriteAheadLog(PointProperties.Wal properties) {
+        this.enabled = properties.enabled();
+        this.forceOnCommit = properties.forceOnCommit();
+        this.directory = Path.of(properties.directory());
+        this.recordsPerSegment = Math.max(1, properties.segmentSize() / RECORD_SIZE);
+        if (enabled) {
+            openTail();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 레코드 추가 - 반환된 위치를 sync 에 넘기면 해당 레코드까지 디스크 반영을 보장
+    public long append(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!enabled) {
+            return 0L;
+        }
+        appendLock.lock();
+        try {
+            if (nextSequence - current.firstSequence() == recordsPerSegment) {
+                roll();
+            }
+            scratchBuffer.putLong(0, userId)
+                    .putLong(8, amount)
+                    .putInt(16, type.ordinal())
+                    .putLong(20, updateMillis);
+            crc.reset();
+            crc.update(scratch, 0, PAYLOAD_SIZE);
+            scratchBuffer.putInt(PAYLOAD_SIZE, (int) crc.getValue());
+            current.buffer().put(offsetOf(current, nextSequence), scratch);
+            return ++nextSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 주어진 위치까지 디스크 반영 - 이미 다른 스레드가 반영했다면 바로 반환
+    public void sync(long position) {
+        if (enabled && forceOnCommit) {
+            force(position);
+        }
+    }
+
+    // 기록된 레코드를 순서대로 전달
+    public long replay(Consumer<PointLogRecord> consumer) {
+        return replay(0L, Long.MAX_VALUE, consumer);
+    }
+
+    // [fromSequence, toSequence) 구간의 레코드를 순서대로 전달 - 추가와 동시에 호출해도 이미 추가된 구간만 읽음
+    public long replay(long fromSequence, long toSequence, Consumer<PointLogRecord> consumer) {
+        if (!enabled) {
+            return 0L;
+        }
+        long limit = Math.min(toSequence, position());
+        long replayed = 0L;
+        for (Path path : segmentPaths()) {
+            long firstSequence = firstSequenceOf(path);
+            if (firstSequence >= limit) {
+                break;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long count = Math.min(channel.size() / RECORD_SIZE, limit - firstSequence);
+                if (firstSequence + count <= fromSequence) {
+                    continue;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, count * RECORD_SIZE);
+                for (long i = Math.max(0L, fromSequence - firstSequence); i < count; i++) {
+                    consumer.accept(readRecord(buffer, (int) i * RECORD_SIZE));
+                    replayed++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 세그먼트를 읽을 수 없습니다: " + path, e);
+            }
+        }
+        return replayed;
+    }
+
+    // 추가된 레코드 수 (다음 레코드의 시퀀스)
+    public long position() {
+        appendLock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // forceOnCommit 과 관계없이 추가된 레코드를 모두 디스크에 반영하고 반영된 위치 반환
+    public long flush() {
+        if (!enabled) {
+            return 0L;
+        }
+        force(Long.MAX_VALUE);
+        return durableSequence.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void force(long position) {
+        if (durableSequence.get() >= position) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            long durable = durableSequence.get();
+            if (durable >= position) {
+                return;
+            }
+            Segment segment;
+            long written;
+            appendLock.lock();
+            try {
+                segment = current;
+                written = nextSequence;
+            } finally {
+                appendLock.unlock();
+            }
+            // 세그먼트를 넘기며 이전 세그먼트는 이미 force 됨 - 현재 세그먼트의 미반영 구간만 force
+            int from = offsetOf(segment, Math.max(durable, segment.firstSequence()));
+            segment.buffer().force(from, offsetOf(segment, written) - from);
+            durableSequence.accumulateAndGet(written, Math::max);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    // 마지막 세그먼트의 유효한 레코드 끝에서 이어서 추가
+    private void openTail() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 디렉토리를 만들 수 없습니다: " + directory, e);
+        }
+        List<Path> segments = segmentPaths();
+        long firstSequence = segments.isEmpty() ? 0L : firstSequenceOf(segments.get(segments.size() - 1));
+        current = openSegment(firstSequence);
+
+        int valid = 0;
+        while (valid < recordsPerSegment && isValid(current.buffer(), valid * RECORD_SIZE)) {
+            valid++;
+        }
+        nextSequence = firstSequence + valid;
+        durableSequence.set(nextSequence);
+
+        // 끊긴 레코드 뒤에 이전 실행의 레코드가 남아 있으면 다음 복구 때 이어 붙으므로 끝까지 비움
+        MappedByteBuffer buffer = current.buffer();
+        byte[] zeros = new byte[RECORD_SIZE];
+        for (int offset = valid * RECORD_SIZE; offset < buffer.capacity(); offset += RECORD_SIZE) {
+            if (!isEmpty(buffer, offset)) {
+                buffer.put(offset, zeros);
+            }
+        }
+        buffer.force();
+    }
+
+    private void roll() {
+        current.buffer().force();
+        durableSequence.accumulateAndGet(nextSequence, Math::max);
+        current = openSegment(nextSequence);
+    }
+
+    private Segment openSegment(long firstSequence) {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+        // 매핑은 채널과 무관하게 유지되므로 매핑 후 채널을 닫음
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) recordsPerSegment * RECORD_SIZE);
+            return new Segment(firstSequence, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    private List<Path> segmentPaths() {
+        try (Stream<Path> paths = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(paths
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .toList());
+            segments.sort(Comparator.comparingLong(PointWriteAheadLog::firstSequenceOf));
+            return segments;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 디렉토리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int offsetOf(Segment segment, long sequence) {
+        return (int) (sequence - segment.firstSequence()) * RECORD_SIZE;
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int offset) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.slice(offset, PAYLOAD_SIZE));
+        int stored = buffer.getInt(offset + PAYLOAD_SIZE);
+        int type = buffer.getInt(offset + 16);
+        return stored == (int) checksum.getValue() && type >= 0 && type < TYPES.length;
+    }
+
+    private static boolean isEmpty(ByteBuffer buffer, int offset) {
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static PointLogRecord readRecord(ByteBuffer buffer, int offset) {
+        return new PointLogRecord(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                TYPES[buffer.getInt(offset + 16)],
+                buffer.getLong(offset + 20)
+        );
+    }
+
+    private record Segment(long firstSequence, MappedByteBuffer buffer) {
+    }
+}
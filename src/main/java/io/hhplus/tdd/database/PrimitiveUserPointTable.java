@@ -0,0 +1,210 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * primitive 배열 기반 잔액 저장소 - UserPointTable 과 같은 selectById / insertOrUpdate 계약
+ * - 유저마다 [userId, point, updateMillis] 3개의 long 을 한 배열에 연속으로 두는 open addressing(linear probing) 테이블입니다.
+ *   유저당 Long 키, UserPoint, 맵 엔트리 객체가 없으므로 유저당 약 40 byte (적재율 0.6) 만 사용합니다.
+ * - 64개 구간으로 나누어 구간마다 StampedLock 으로 보호합니다. 조회는 낙관적 읽기로 락 없이 수행하고, 갱신만 구간 락을 잡습니다.
+ * - 내부 조회/갱신 경로에서는 객체를 만들지 않으며, 계약상 반환하는 UserPoint 만 생성합니다. (구간 확장 시에만 배열 할당)
+ * - point.table.store=primitive 일 때 UserPointTable 대신 주입됩니다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "point.table.store", havingValue = "primitive")
+public class PrimitiveUserPointTable extends UserPointTable {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public PrimitiveUserPointTable() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        long userId = id;
+        int hash = hash(userId);
+        return segmentOf(hash).select(userId, hash);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        int hash = hash(id);
+        return segmentOf(hash).upsert(id, hash, amount, System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 복구용 일괄 저장 - 복구한 잔액을 모두 같은 갱신 시각으로 저장
+     * - 구간별 유저 수를 먼저 세어 구간마다 한 번만 확장한 뒤 채우므로, 저장 중에는 배열을 다시 할당하지 않습니다.
+     */
+    public void restore(BalanceMap balances, long updateMillis) {
+        int[] counts = new int[SEGMENT_COUNT];
+        balances.forEach((userId, point) -> counts[hash(userId) >>> (Integer.SIZE - SEGMENT_BITS)]++);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i].reserve(counts[i]);
+        }
+        balances.forEach((userId, point) -> {
+            int hash = hash(userId);
+            segmentOf(hash).upsert(userId, hash, point, updateMillis);
+        });
+    }
+
+    // 보관 중인 유저 수
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.size;
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    // 배열이 차지하는 byte 수 (객체 헤더 제외)
+    public long allocatedBytes() {
+        long bytes = 0L;
+        for (Segment segment : segments) {
+            bytes += (long) segment.slots.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    private Segment segmentOf(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    private static int hash(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    /**
+     * 구간 하나의 테이블
+     * - slots : [userId, point, updateMillis] 반복, 빈 슬롯은 userId 가 EMPTY
+     * - 확장 시 새 배열을 채운 뒤 교체하므로, 낙관적 읽기는 교체 전/후 어느 배열을 보더라도 끝까지 탐색할 수 있습니다.
+     */
+    private static class Segment {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final int STRIDE = 3;
+        private static final double LOAD_FACTOR = 0.6;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final StampedLock lock = new StampedLock();
+        private volatile long[] slots = emptySlots(INITIAL_CAPACITY);
+        private int size;
+
+        UserPoint select(long userId, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                long[] current = slots;
+                int slot = find(current, userId, hash);
+                boolean found = current[slot] == userId;
+                long point = current[slot + 1];
+                long updateMillis = current[slot + 2];
+                if (lock.validate(stamp)) {
+                    return found ? new UserPoint(userId, point, updateMillis) : UserPoint.empty(userId);
+                }
+            }
+
+            // 갱신과 겹친 경우 - 읽기 락으로 다시 조회
+            stamp = lock.readLock();
+            try {
+                long[] current = slots;
+                int slot = find(current, userId, hash);
+                return current[slot] == userId
+                        ? new UserPoint(userId, current[slot + 1], current[slot + 2])
+                        : UserPoint.empty(userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        UserPoint upsert(long userId, int hash, long point, long updateMillis) {
+            if (userId == EMPTY) {
+                throw new IllegalArgumentException("사용할 수 없는 userId 입니다: " + userId);
+            }
+            long stamp = lock.writeLock();
+            try {
+                long[] current = slots;
+                int slot = find(current, userId, hash);
+                if (current[slot] == EMPTY) {
+                    if (size + 1 > current.length / STRIDE * LOAD_FACTOR) {
+                        current = resize(current);
+                        slot = find(current, userId, hash);
+                    }
+                    size++;
+                }
+                current[slot + 1] = point;
+                current[slot + 2] = updateMillis;
+                current[slot] = userId;
+                return new UserPoint(userId, point, updateMillis);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // additional 명을 더 저장해도 확장되지 않도록 미리 확장
+        void reserve(int additional) {
+            long stamp = lock.writeLock();
+            try {
+                long[] current = slots;
+                while (size + additional > current.length / STRIDE * LOAD_FACTOR) {
+                    current = resize(current);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private long[] resize(long[] current) {
+            long[] resized = emptySlots(current.length / STRIDE * 2);
+            for (int slot = 0; slot < current.length; slot += STRIDE) {
+                long userId = current[slot];
+                if (userId != EMPTY) {
+                    int target = find(resized, userId, hash(userId));
+                    resized[target] = userId;
+                    resized[target + 1] = current[slot + 1];
+                    resized[target + 2] = current[slot + 2];
+                }
+            }
+            slots = resized;
+            return resized;
+        }
+
+        // userId 가 있는 슬롯 또는 들어갈 빈 슬롯의 시작 인덱스
+        private static int find(long[] slots, long userId, int hash) {
+            int mask = slots.length / STRIDE - 1;
+            int index = hash & mask;
+            while (true) {
+                long key = slots[index * STRIDE];
+                if (key == userId || key == EMPTY) {
+                    return index * STRIDE;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static long[] emptySlots(int capacity) {
+            long[] slots = new long[capacity * STRIDE];
+            for (int slot = 0; slot < slots.length; slot += STRIDE) {
+                slots[slot] = EMPTY;
+            }
+            return slots;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.database;
+
+import java.util.Arrays;
+
+/**
+ * userId → 포인트 집계(충전 합계, 사용 합계, 거래 수, 마지막 거래 시각) primitive 해시 맵 (open addressing, linear probing)
+ * - 스냅샷에 잔액과 함께 기록해, 스냅샷 이후 로그만 재생해도 집계가 전체 히스토리와 일치하도록 합니다.
+ * - 항목당 객체를 만들지 않도록 유저마다 4개의 long 을 한 배열에 연속으로 보관합니다.
+ * - 스레드 안전하지 않으므로 한 스레드에서만 사용합니다.
+ * - Long.MIN_VALUE 는 빈 슬롯 표시로 쓰므로 userId 로 사용할 수 없습니다.
+ */
+public class SummaryMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.6;
+    private static final int STRIDE = 4;
+    private static final int CHARGED = 0;
+    private static final int USED = 1;
+    private static final int COUNT = 2;
+    private static final int LAST_ACTIVITY = 3;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public SummaryMap() {
+        this(16);
+    }
+
+    public SummaryMap(int expectedSize) {
+        allocate(Integer.highestOneBit((int) Math.max(16, expectedSize / LOAD_FACTOR) - 1) << 1);
+    }
+
+    // 충전/사용 금액 합산
+    public void add(long userId, long charged, long used, long count, long updateMillis) {
+        int index = indexOf(userId);
+        if (keys[index] == EMPTY) {
+            index = insert(index, userId);
+        }
+        int offset = index * STRIDE;
+        values[offset + CHARGED] += charged;
+        values[offset + USED] += used;
+        values[offset + COUNT] += count;
+        values[offset + LAST_ACTIVITY] = Math.max(values[offset + LAST_ACTIVITY], updateMillis);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                int offset = i * STRIDE;
+                consumer.accept(keys[i], values[offset + CHARGED], values[offset + USED], values[offset + COUNT],
+                        values[offset + LAST_ACTIVITY]);
+            }
+        }
+    }
+
+    // 빈 슬롯에 유저 추가 후 항목 위치 반환 - 확장되면 위치가 바뀜
+    private int insert(int index, long userId) {
+        if (userId == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 userId 입니다: " + userId);
+        }
+        keys[index] = userId;
+        if (++size > resizeAt) {
+            resize();
+            return indexOf(userId);
+        }
+        return index;
+    }
+
+    private int indexOf(long userId) {
+        int index = hash(userId) & mask;
+        while (keys[index] != EMPTY && keys[index] != userId) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                System.arraycopy(oldValues, i * STRIDE, values, index * STRIDE, STRIDE);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity * STRIDE];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long userId, long charged, long used, long count, long lastActivityMillis);
+    }
+}
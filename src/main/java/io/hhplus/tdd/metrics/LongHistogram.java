@@ -0,0 +1,94 @@
+package io.hhplus.tdd.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그-선형 버킷 히스토그램 (HdrHistogram 방식)
+ * - 2의 거듭제곱 구간마다 32개의 하위 버킷을 두어 상대 오차 약 3% 로 0 ~ Long.MAX_VALUE 범위를 기록합니다.
+ * - 버킷 배열은 생성 시 한 번만 할당하므로 기록 시 객체를 생성하지 않습니다.
+ * - 스냅샷은 기록과 동시에 수행될 수 있으며, 그 사이 기록된 값은 일부만 반영될 수 있습니다.
+ */
+public class LongHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    // 값 기록 - 음수는 0 으로 기록
+    public void record(long value) {
+        long recorded = Math.max(value, 0L);
+        counts.incrementAndGet(indexOf(recorded));
+        sum.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    public Snapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copied[i] = counts.get(i);
+            count += copied[i];
+        }
+        if (count == 0L) {
+            return new Snapshot(0L, 0.0, 0L, 0L, 0L, 0L, 0L);
+        }
+        return new Snapshot(
+                count,
+                (double) sum.sum() / count,
+                valueAtPercentile(copied, count, 0.50),
+                valueAtPercentile(copied, count, 0.90),
+                valueAtPercentile(copied, count, 0.99),
+                valueAtPercentile(copied, count, 0.999),
+                max.get()
+        );
+    }
+
+    // 값이 속한 버킷 - 32 미만은 값 그대로, 이후는 (지수, 상위 5비트) 로 결정
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // 버킷에 속한 가장 큰 값
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long total, double percentile) {
+        long target = Math.max(1L, (long) Math.ceil(percentile * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(counts.length - 1);
+    }
+
+    public record Snapshot(
+            long count,
+            double mean,
+            long p50,
+            long p90,
+            long p99,
+            long p999,
+            long max
+    ) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.metrics;
+
+/**
+ * 히스토그램으로 기록하는 지표
+ * - unit : ns(지연 시간) / count(건수)
+ */
+public enum Metric {
+    CHARGE("point.charge", "ns"),
+    USE("point.use", "ns"),
+    LOCK_WAIT("lock.wait", "ns"),
+    LOCK_HOLD("lock.hold", "ns"),
+    LOCK_COMBINED("lock.combined", "count"),
+    CAS_RETRY("cas.retry", "count"),
+    SHARD_BATCH("shard.batch", "count"),
+    USER_POINT_SELECT("table.user-point.select", "ns"),
+    USER_POINT_UPSERT("table.user-point.upsert", "ns"),
+    HISTORY_INSERT("table.history.insert", "ns"),
+    HISTORY_BATCH("history.batch", "count");
+
+    private final String key;
+    private final String unit;
+
+    Metric(String key, String unit) {
+        this.key = key;
+        this.unit = unit;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String unit() {
+        return unit;
+    }
+}
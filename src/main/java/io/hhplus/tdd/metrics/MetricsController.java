@@ -0,0 +1,24 @@
+package io.hhplus.tdd.metrics;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+
+    private final PointMetrics pointMetrics;
+
+    public MetricsController(PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+    }
+
+    /**
+     * 포인트 처리 경로의 지연 시간 분포, 검증 규칙별 거절 건수, 대기열 깊이를 조회합니다.
+     */
+    @GetMapping
+    public PointMetrics.Snapshot metrics() {
+        return pointMetrics.snapshot();
+    }
+}
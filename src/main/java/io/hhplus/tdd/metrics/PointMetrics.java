@@ -0,0 +1,103 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.ValidationRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 포인트 처리 경로 지표 수집기
+ * - 지연 시간/건수 히스토그램, 검증 규칙별 거절 건수, 대기열 깊이 등의 gauge 를 보관합니다.
+ * - 기록 경로는 배열 인덱스 접근과 원자적 증가만 수행하며, 비활성화 시 System.nanoTime() 도 호출하지 않습니다.
+ */
+@Component
+public class PointMetrics {
+
+    private final boolean enabled;
+    private final LongHistogram[] histograms = new LongHistogram[Metric.values().length];
+    private final LongAdder[] rejections = new LongAdder[ValidationRule.values().length];
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PointMetrics(PointProperties properties) {
+        this(properties.metrics().enabled());
+    }
+
+    public PointMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LongHistogram();
+        }
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    // 측정 시작 시각 - 비활성화 시 0
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    // 시작 시각부터 경과한 시간 기록 후 현재 시각 반환 - 이어지는 구간의 시작 시각으로 사용
+    public long recordSince(Metric metric, long startNanos) {
+        if (!enabled) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        histograms[metric.ordinal()].record(now - startNanos);
+        return now;
+    }
+
+    public void recordValue(Metric metric, long value) {
+        if (enabled) {
+            histograms[metric.ordinal()].record(value);
+        }
+    }
+
+    public void rejected(ValidationRule rule) {
+        if (enabled) {
+            rejections[rule.ordinal()].increment();
+        }
+    }
+
+    // 조회 시점에 값을 읽는 gauge 등록 (예: 대기열 깊이)
+    public void registerGauge(String key, LongSupplier value) {
+        gauges.put(key, value);
+    }
+
+    public Snapshot snapshot() {
+        Map<String, HistogramSnapshot> histogramSnapshots = new LinkedHashMap<>();
+        for (Metric metric : Metric.values()) {
+            histogramSnapshots.put(metric.key(),
+                    new HistogramSnapshot(metric.unit(), histograms[metric.ordinal()].snapshot()));
+        }
+        Map<ValidationRule, Long> rejectionCounts = new EnumMap<>(ValidationRule.class);
+        for (ValidationRule rule : ValidationRule.values()) {
+            rejectionCounts.put(rule, rejections[rule.ordinal()].sum());
+        }
+        Map<String, Long> gaugeValues = new LinkedHashMap<>();
+        gauges.forEach((key, value) -> gaugeValues.put(key, value.getAsLong()));
+        return new Snapshot(enabled, histogramSnapshots, rejectionCounts, gaugeValues);
+    }
+
+    public record Snapshot(
+            boolean enabled,
+            Map<String, HistogramSnapshot> histograms,
+            Map<ValidationRule, Long> rejections,
+            Map<String, Long> gauges
+    ) {
+    }
+
+    public record HistogramSnapshot(
+            String unit,
+            LongHistogram.Snapshot values
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+
+/**
+ * 비동기 파사드(PointAsyncService)의 실행 방식
+ * - POOL : 크기가 고정된 스레드 풀에서 실행, 요청을 받은 servlet 스레드는 바로 반환
+ * - VIRTUAL : 요청마다 가상 스레드에서 실행 (JDK 21 이상)
+ * - CALLER : 요청을 받은 스레드에서 바로 실행, 반환된 future 는 이미 완료된 상태 (테스트/디버깅용)
+ */
+public enum AsyncExecutorMode {
+    POOL, VIRTUAL, CALLER
+}
@@ -0,0 +1,298 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.Metric;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * CAS 잔액 엔진 (point.engine.mode=CAS)
+ * - 유저별 잔액을 원자적 셀에 보관하고, 잔액 검증(최대 잔고 / 잔고 부족)과 갱신을 compare-and-set 재시도 루프 안에서 수행합니다.
+ *   대기하는 스레드가 park/unpark 되지 않으며, 경합 시에는 최신 잔액으로 다시 검증합니다.
+ * - 셀에는 갱신마다 증가하는 version 이 있으며, 단일 writer 스레드가 변경된 셀의 최신 version 만 UserPointTable 에 기록합니다.
+ *   (이미 기록한 version 이하의 잔액은 다시 기록하지 않음)
+ * - 조회는 셀에서 바로 반환하므로 write-behind 지연과 무관하게 최신 잔액을 반환합니다.
+ * - 셀이 없으면 적재 중인 빈 셀을 먼저 등록한 뒤 테이블에서 조회하므로, 유저당 한 요청만 적재하고 나머지는 적재를 기다립니다.
+ * - 참조가 없고 최신 version 까지 기록된 셀은 잔액을 EVICTED 로 compare-and-set 해 제거합니다.
+ *   제거 후에는 잔액을 바꿀 수 없으므로, 제거된 셀을 본 요청은 테이블에서 새 셀을 적재합니다.
+ *   제거는 compare-and-set 한 번이고 테이블 기록은 writer 만 수행하므로, 요청 스레드는 테이블 I/O 를 기다리지 않습니다.
+ * - 반영 후 처리(applied)는 version 순서대로 호출합니다. compare-and-set 에 성공한 요청은 앞선 version 의 처리가 끝날 때까지
+ *   기다리며, 앞선 요청은 이미 반영을 마치고 처리 중이므로 대기는 로그 기록 한 번 길이입니다. (잠시 spin 후 스레드 양보)
+ */
+@Component
+public class CasPointEngine implements PointEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CasPointEngine.class);
+    // 제거된 셀의 잔액 - 이후 compare-and-set 은 모두 실패
+    private static final Versioned EVICTED = new Versioned(0L, 0L, -1L);
+    private static final int ANNOUNCE_SPINS = 100;
+
+    private final UserPointTable userPointTable;
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, BalanceCell> cells = new ConcurrentHashMap<>();
+    private final BlockingQueue<BalanceCell> dirtyCells = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    @Autowired
+    public CasPointEngine(UserPointTable userPointTable, PointMetrics pointMetrics, PointProperties properties) {
+        this(userPointTable, pointMetrics, properties.engine());
+    }
+
+    public CasPointEngine(UserPointTable userPointTable, PointMetrics pointMetrics, PointProperties.Engine properties) {
+        this.userPointTable = userPointTable;
+        this.pointMetrics = pointMetrics;
+        this.enabled = properties.mode() == PointEngineMode.CAS;
+        this.writer = new Thread(this::drain, "point-balance-writer");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+            pointMetrics.registerGauge("balance.write-behind.backlog", dirtyCells::size);
+            pointMetrics.registerGauge("balance.cells", cells::size);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 잔액 조회 - 셀이 없으면 테이블에서 적재
+    @Override
+    public UserPoint get(long userId) {
+        while (true) {
+            BalanceCell cell = retain(userId);
+            try {
+                Versioned current = cell.state.get();
+                if (current != EVICTED) {
+                    return new UserPoint(userId, current.point(), current.updateMillis());
+                }
+            } finally {
+                release(cell);
+            }
+        }
+    }
+
+    @Override
+    public UserPoint apply(PointOperation operation, Consumer<UserPoint> applied) {
+        long retries = 0L;
+        while (true) {
+            BalanceCell cell = retain(operation.userId());
+            try {
+                Versioned current;
+                while ((current = cell.state.get()) != EVICTED) {
+                    long balance = operation.applyTo(current.point());
+                    Versioned next = new Versioned(balance, System.currentTimeMillis(), current.version() + 1);
+                    if (cell.state.compareAndSet(current, next)) {
+                        pointMetrics.recordValue(Metric.CAS_RETRY, retries);
+                        markDirty(cell);
+                        UserPoint result = new UserPoint(operation.userId(), balance, next.updateMillis());
+                        announce(cell, next.version(), applied, result);
+                        return result;
+                    }
+                    retries++;
+                }
+            } finally {
+                release(cell);
+            }
+            // 적용 도중 제거된 셀 - 다시 적재한 셀에 적용
+        }
+    }
+
+    // 보관 중인 셀 수
+    int size() {
+        return cells.size();
+    }
+
+    // 변경된 모든 셀을 호출 스레드에서 바로 기록
+    public void flush() {
+        for (BalanceCell cell : cells.values()) {
+            write(cell);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        if (enabled) {
+            writer.join();
+        }
+        flush();
+    }
+
+    // 셀 참조 - 반드시 release 와 짝을 이뤄 호출, 셀이 없으면 적재 중인 셀을 등록한 뒤 테이블에서 적재
+    private BalanceCell retain(long userId) {
+        while (true) {
+            BalanceCell cell = cells.get(userId);
+            if (cell == null) {
+                BalanceCell loading = new BalanceCell(userId);
+                cell = cells.putIfAbsent(userId, loading);
+                if (cell == null) {
+                    load(loading);
+                    return loading;
+                }
+            }
+            cell.refs.incrementAndGet();
+            try {
+                cell.awaitLoaded();
+            } catch (RuntimeException e) {
+                cell.refs.decrementAndGet();
+                throw e;
+            }
+            if (cell.state.get() != EVICTED) {
+                return cell;
+            }
+            // 제거된 셀 - 저장소에서 빠진 뒤 다시 적재
+            cell.refs.decrementAndGet();
+            cells.remove(userId, cell);
+        }
+    }
+
+    // 등록한 셀에 테이블의 잔액 적재 - 이전 셀은 최신 version 까지 기록된 뒤에만 제거되므로 테이블의 잔액이 최신
+    private void load(BalanceCell cell) {
+        try {
+            UserPoint loaded = userPointTable.selectById(cell.userId);
+            cell.loaded(new Versioned(loaded.point(), loaded.updateMillis(), 0L));
+        } catch (RuntimeException e) {
+            // 적재 실패 - 셀을 빼고 적재를 기다리던 요청도 같은 예외로 실패
+            cells.remove(cell.userId, cell);
+            cell.loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 반영 후 처리를 version 순서대로 호출 - 실패해도 다음 version 이 진행하도록 처리 완료를 표시
+    // 참조를 유지한 채 호출하므로 처리가 끝나기 전에는 셀이 제거되지 않음
+    private void announce(BalanceCell cell, long version, Consumer<UserPoint> applied, UserPoint result) {
+        for (int spins = 0; cell.announcedVersion != version - 1; spins++) {
+            // 앞선 요청이 CPU 를 받지 못한 경우 - 계속 spin 하지 않고 양보
+            if (spins < ANNOUNCE_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        try {
+            applied.accept(result);
+        } finally {
+            cell.announcedVersion = version;
+        }
+    }
+
+    private void release(BalanceCell cell) {
+        if (cell.refs.decrementAndGet() == 0) {
+            evictIfFlushed(cell);
+        }
+    }
+
+    // 최신 version 까지 기록된 셀 제거 - 기록 뒤 잔액이 바뀌었으면 compare-and-set 이 실패하고 writer 가 기록 후 다시 시도
+    private void evictIfFlushed(BalanceCell cell) {
+        Versioned current = cell.state.get();
+        if (current == null || current == EVICTED || current.version() != cell.writtenVersion) {
+            return;
+        }
+        if (cell.state.compareAndSet(current, EVICTED)) {
+            cells.remove(cell.userId, cell);
+        }
+    }
+
+    private void markDirty(BalanceCell cell) {
+        if (cell.dirty.compareAndSet(false, true)) {
+            dirtyCells.add(cell);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                write(dirtyCells.take());
+            } catch (InterruptedException e) {
+                // 종료 요청 - 남은 셀은 close 에서 기록
+            } catch (RuntimeException e) {
+                log.error("잔액 기록 실패", e);
+            }
+        }
+    }
+
+    // 기록한 version 보다 새로운 잔액만 기록 - 기록 중 변경되면 셀이 다시 대기열에 적재됨
+    // writer 와 flush 의 기록 순서만 셀 단위로 맞추며, 요청 스레드는 이 락을 잡지 않음
+    private void write(BalanceCell cell) {
+        cell.writeLock.lock();
+        try {
+            cell.dirty.set(false);
+            Versioned current = cell.state.get();
+            if (current != null && current != EVICTED && current.version() > cell.writtenVersion) {
+                long startedAt = pointMetrics.startTimer();
+                userPointTable.insertOrUpdate(cell.userId, current.point());
+                pointMetrics.recordSince(Metric.USER_POINT_UPSERT, startedAt);
+                cell.writtenVersion = current.version();
+            }
+        } finally {
+            cell.writeLock.unlock();
+        }
+        if (cell.refs.get() == 0) {
+            evictIfFlushed(cell);
+        }
+    }
+
+    private static class BalanceCell {
+
+        private final long userId;
+        // 적재 전에는 null, 적재가 끝나면 loading 완료
+        private final AtomicReference<Versioned> state = new AtomicReference<>();
+        private final CompletableFuture<Void> loading = new CompletableFuture<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        // 조회/갱신 중인 요청 수 - 적재한 요청이 첫 참조
+        private final AtomicInteger refs = new AtomicInteger(1);
+        private final ReentrantLock writeLock = new ReentrantLock();
+        // 테이블에 기록한 version - writeLock 을 잡고 갱신, 제거 판단은 락 없이 읽음
+        private volatile long writtenVersion;
+        // 반영 후 처리를 마친 version - 다음 version 의 요청만 갱신
+        private volatile long announcedVersion;
+
+        BalanceCell(long userId) {
+            this.userId = userId;
+        }
+
+        void loaded(Versioned loaded) {
+            state.set(loaded);
+            loading.complete(null);
+        }
+
+        // 다른 요청이 적재 중이면 끝날 때까지 대기 - 적재 실패는 그대로 다시 던짐
+        void awaitLoaded() {
+            if (loading.isDone() && !loading.isCompletedExceptionally()) {
+                return;
+            }
+            try {
+                loading.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private record Versioned(long point, long updateMillis, long version) {
+    }
+}
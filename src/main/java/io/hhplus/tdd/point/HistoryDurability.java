@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+
+/**
+ * 히스토리 기록 보장 수준
+ * - ASYNC : 대기열에 적재 후 바로 반환 (fire-and-forget)
+ * - SYNC : 테이블에 반영될 때까지 대기 후 반환 (락은 먼저 해제)
+ */
+public enum HistoryDurability {
+    ASYNC, SYNC
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Idempotency-Key 중복 요청 캐시
+ * - (userId, 충전/사용, 키) 마다 첫 요청의 결과 future 를 보관합니다. 진행 중인 동안 들어온 중복 요청은 같은 future 를 기다립니다.
+ * - 세그먼트별로 등록 순서대로 보관하며, 등록 시 ttl 이 지난 항목을 앞에서부터 제거하고 크기를 넘으면 가장 오래된 항목을 제거합니다.
+ * - 조회한 항목도 ttl 을 확인하므로, 제거되지 않고 남은 항목이라도 ttl 이 지났으면 새 요청으로 처리합니다.
+ * - 키 없는 요청은 캐시를 거치지 않습니다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final long ttlNanos;
+    private final LongAdder hitCount = new LongAdder();
+
+    @Autowired
+    public IdempotencyCache(PointProperties properties) {
+        this(properties.idempotency().maximumSize(), Duration.ofSeconds(properties.idempotency().ttlSeconds()));
+    }
+
+    public IdempotencyCache(int maximumSize, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        int segmentCapacity = Math.max(1, maximumSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    // 첫 요청이면 inFlight 를 등록하고 null, 이미 등록된 키면 그 결과 future 반환
+    // 같은 키로 다른 금액을 요청하면 IdempotencyKeyMismatchException
+    public CompletableFuture<UserPoint> putIfAbsent(Key key, long amount, CompletableFuture<UserPoint> inFlight) {
+        Entry existing = segmentOf(key).putIfAbsent(key, new Entry(amount, inFlight, System.nanoTime()));
+        if (existing == null) {
+            return null;
+        }
+        if (existing.amount() != amount) {
+            throw new IdempotencyKeyMismatchException("같은 Idempotency-Key 로 다른 금액을 요청할 수 없습니다.");
+        }
+        hitCount.increment();
+        return existing.result();
+    }
+
+    // 실패한 요청 제거 - 같은 키로 다시 시도할 수 있음
+    public void remove(Key key, CompletableFuture<UserPoint> inFlight) {
+        segmentOf(key).remove(key, inFlight);
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(Key key) {
+        return segments[(key.hashCode() & 0x7fffffff) % SEGMENT_COUNT];
+    }
+
+    public record Key(long userId, TransactionType type, String idempotencyKey) {
+    }
+
+    private record Entry(long amount, CompletableFuture<UserPoint> result, long createdAt) {
+    }
+
+    private class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Key, Entry> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        Entry putIfAbsent(Key key, Entry entry) {
+            lock.lock();
+            try {
+                expire(entry.createdAt());
+                Entry existing = entries.get(key);
+                if (existing != null && !isExpired(existing, entry.createdAt())) {
+                    return existing;
+                }
+                // ttl 이 지난 항목은 지우고 새로 등록해 등록 순서(맨 뒤)를 유지
+                entries.remove(key);
+                entries.put(key, entry);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Key key, CompletableFuture<UserPoint> inFlight) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.result() == inFlight) {
+                    entries.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 등록 순서대로 보관하므로 ttl 이 지나지 않은 항목을 만나면 중단
+        private void expire(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (!isExpired(iterator.next(), now)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        private boolean isExpired(Entry entry, long now) {
+            return now - entry.createdAt() >= ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 같은 Idempotency-Key 로 첫 요청과 다른 금액을 요청해 거절된 요청
+ */
+public class IdempotencyKeyMismatchException extends IllegalArgumentException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
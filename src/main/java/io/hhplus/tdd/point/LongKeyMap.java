@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+/**
+ * userId → 객체 해시 맵 (open addressing, linear probing)
+ * - key 를 long 배열에 그대로 보관하므로 조회/추가/삭제 시 Long 박싱이나 항목 객체를 만들지 않습니다.
+ * - 빈 슬롯은 value 가 null 인 슬롯이며, 삭제 시 뒤따르는 항목을 앞으로 당겨(backward shift) 탐색 경로를 유지합니다.
+ * - 스레드 안전하지 않으므로 호출하는 쪽의 락 안에서만 사용합니다.
+ */
+class LongKeyMap<V> {
+
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    LongKeyMap() {
+        this(16);
+    }
+
+    LongKeyMap(int expectedSize) {
+        allocate(Integer.highestOneBit((int) Math.max(16, expectedSize / LOAD_FACTOR) - 1) << 1);
+    }
+
+    // 조회 - 없으면 null
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        return (V) values[indexOf(key)];
+    }
+
+    void put(long key, V value) {
+        int index = indexOf(key);
+        if (values[index] != null) {
+            values[index] = value;
+            return;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeAt) {
+            resize();
+        }
+    }
+
+    // 삭제 후 삭제된 값 반환 - 없으면 null
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int index = indexOf(key);
+        V removed = (V) values[index];
+        if (removed == null) {
+            return null;
+        }
+        // 빈 슬롯까지 이어지는 항목 중 원래 자리가 빈 슬롯 이전인 항목을 빈 슬롯으로 당김
+        int empty = index;
+        int next = (empty + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - empty) & mask)) {
+                keys[empty] = keys[next];
+                values[empty] = values[next];
+                empty = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[empty] = null;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 ring buffer (lock-free)
+ * - 슬롯마다 sequence 를 두어, 생산자는 tail 을 CAS 로 선점한 뒤 원소를 쓰고 sequence 로 공개합니다.
+ * - 소비자는 sequence 로 공개된 슬롯만 읽고, 읽은 슬롯의 sequence 를 한 바퀴 뒤로 옮겨 생산자에게 돌려줍니다.
+ * - poll 은 소비자 스레드 하나에서만 호출합니다.
+ */
+class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 적재 - 가득 찼으면 false
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                // 다른 생산자가 먼저 선점 - 최신 tail 로 재시도
+                position = tail.get();
+            }
+        }
+    }
+
+    // 꺼내기 - 비어 있으면 null (소비자 스레드 전용)
+    E poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head.get() & mask) != head.get() + 1;
+    }
+
+    int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+/**
+ * PointHistoryWriter 대기열 항목
+ * - drainer 는 테이블에 반영한 뒤 drained 를 호출하고, 그 이후로는 항목을 참조하지 않습니다.
+ * - committed : 요청한 쪽이 진행해도 되는 시점 (ASYNC - 적재 직후, SYNC - 테이블 반영 후)에 호출
+ * - failed : SYNC 모드에서 테이블 반영에 실패했을 때 호출
+ * - logPosition : write-ahead log 에 기록된 위치, 0 보다 크면 히스토리 id 로 사용 (로그를 사용하지 않으면 0)
+ */
+abstract class PendingHistory {
+
+    abstract long userId();
+
+    abstract long amount();
+
+    abstract TransactionType type();
+
+    abstract long updateMillis();
+
+    long logPosition() {
+        return 0L;
+    }
+
+    abstract void committed(PointHistory history);
+
+    abstract void failed(RuntimeException e);
+
+    void drained() {
+    }
+}
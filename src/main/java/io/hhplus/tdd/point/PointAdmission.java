@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 충전/사용 요청 허가(admission control)
+ * - 유저별 / 전체 token bucket 과 유저별 대기 요청 수 한도를 확인하고, 넘으면 대기열에 넣지 않고 바로 거절합니다.
+ * - 한 유저에 몰린 요청이 유저 락 앞에 쌓여 요청 스레드를 붙잡는 대신 빠르게 실패하므로, 다른 유저의 지연 시간이 유지됩니다.
+ * - 확인 순서 : 유저 대기 요청 수 → 유저 token → 전체 token, 한 유저의 폭주가 전체 토큰을 소진하지 않도록 유저 한도를 먼저 확인
+ *   대기 요청 수로 거절된 요청은 토큰을 쓰지 않고, 전체 token 으로 거절된 요청이 쓴 유저 토큰은 돌려줍니다.
+ * - 유저 한도 상태는 대기 요청 수를 먼저 올린 뒤 확인하고, 정리(sweep)는 대기 요청 수를 0 에서 RETIRED 로 바꾼 항목만 제거합니다.
+ *   제거가 확정된 항목에는 대기 요청을 올릴 수 없으므로, 정리와 동시에 들어온 요청이 제거된 항목의 한도를 쓰는 일은 없습니다.
+ */
+@Component
+public class PointAdmission {
+
+    private static final String OVERLOADED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int RETIRED = Integer.MIN_VALUE;
+
+    private final PointProperties.RateLimit properties;
+    private final TokenBucket globalBucket;
+    private final ConcurrentHashMap<Long, UserAdmission> users = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder waitersExceeded = new LongAdder();
+
+    @Autowired
+    public PointAdmission(PointProperties properties, PointMetrics pointMetrics) {
+        this(properties.rateLimit(), pointMetrics);
+    }
+
+    public PointAdmission(PointProperties.RateLimit properties, PointMetrics pointMetrics) {
+        this.properties = properties;
+        this.globalBucket = properties.enabled() && properties.globalPermitsPerSecond() > 0
+                ? new TokenBucket(properties.globalPermitsPerSecond(), properties.globalBurst(), System.nanoTime())
+                : null;
+        pointMetrics.registerGauge("admission.rejected.rate-limit", rateLimited::sum);
+        pointMetrics.registerGauge("admission.rejected.waiters", waitersExceeded::sum);
+        pointMetrics.registerGauge("admission.users", users::size);
+    }
+
+    // 한도 없이 모든 요청을 허가
+    public static PointAdmission disabled() {
+        return new PointAdmission(new PointProperties.RateLimit(false, 0, 1, 0, 1, 1, 0), new PointMetrics(false));
+    }
+
+    // 요청 허가 - 한도를 넘으면 PointOverloadedException, 허가된 요청은 끝난 뒤 반드시 release
+    public Permit admit(long userId) {
+        if (!properties.enabled()) {
+            return Permit.NONE;
+        }
+        long now = System.nanoTime();
+        UserAdmission user;
+        int waiters;
+        while (true) {
+            user = users.computeIfAbsent(userId, id -> new UserAdmission(properties, now));
+            waiters = user.enter();
+            if (waiters != RETIRED) {
+                break;
+            }
+            // 정리 중인 항목 - 저장소에서 빠지거나 정리가 취소될 때까지 다시 조회
+            Thread.onSpinWait();
+        }
+        if (waiters > properties.maxWaitersPerUser()) {
+            user.waiters.decrementAndGet();
+            waitersExceeded.increment();
+            throw new PointOverloadedException(OVERLOADED_MESSAGE);
+        }
+        if (!user.bucket.tryAcquire(now)) {
+            user.waiters.decrementAndGet();
+            rateLimited.increment();
+            throw new PointOverloadedException(OVERLOADED_MESSAGE);
+        }
+        if (globalBucket != null && !globalBucket.tryAcquire(now)) {
+            user.bucket.refund();
+            user.waiters.decrementAndGet();
+            rateLimited.increment();
+            throw new PointOverloadedException(OVERLOADED_MESSAGE);
+        }
+        sweepIfFull(now);
+        return new Permit(user);
+    }
+
+    // 보관 유저 수가 한도를 넘으면 토큰이 가득 차고 대기 요청이 없는 유저 제거 - 초당 한 번만 수행
+    private void sweepIfFull(long now) {
+        long lastSweep = lastSweepNanos.get();
+        if (users.size() <= properties.maximumUsers() || now - lastSweep < SWEEP_INTERVAL_NANOS
+                || !lastSweepNanos.compareAndSet(lastSweep, now)) {
+            return;
+        }
+        for (Map.Entry<Long, UserAdmission> entry : users.entrySet()) {
+            UserAdmission user = entry.getValue();
+            if (!user.bucket.isFull(now) || !user.waiters.compareAndSet(0, RETIRED)) {
+                continue;
+            }
+            // 확인과 RETIRED 사이에 들어왔다 나간 요청이 토큰을 썼으면 정리 취소
+            if (user.bucket.isFull(System.nanoTime())) {
+                users.remove(entry.getKey(), user);
+            } else {
+                user.waiters.set(0);
+            }
+        }
+    }
+
+    // 유저별 한도 상태 - 제거된 뒤 다시 만들어지면 토큰이 가득 찬 상태로 시작
+    private static class UserAdmission {
+
+        private final TokenBucket bucket;
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        UserAdmission(PointProperties.RateLimit properties, long nowNanos) {
+            this.bucket = new TokenBucket(properties.userPermitsPerSecond(), properties.userBurst(), nowNanos);
+        }
+
+        // 대기 요청 수를 올리고 반환 - 정리가 확정된 항목이면 RETIRED
+        int enter() {
+            while (true) {
+                int current = waiters.get();
+                if (current == RETIRED) {
+                    return RETIRED;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return current + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * 허가된 요청 - 처리가 끝나면 release 로 유저 대기 요청 수를 반납
+     */
+    public static class Permit {
+
+        static final Permit NONE = new Permit(null);
+
+        private final UserAdmission user;
+
+        private Permit(UserAdmission user) {
+            this.user = user;
+        }
+
+        public void release() {
+            if (user != null) {
+                user.waiters.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * PointService 비동기 파사드
+ * - 같은 유저의 충전/사용 순서는 PointService 의 유저 락 대기열이 보장하므로, 파사드는 유저별로 직렬화하지 않고 바로 넘깁니다.
+ *   (대기 중인 요청이 유저 락 앞에 함께 쌓여야 한 번의 잔액 갱신으로 결합됩니다.)
+ * - 기본은 고정 크기 스레드 풀(point.async.pool-size)에서 실행해, 테이블 I/O 를 기다리는 동안 servlet 스레드를 반환합니다.
+ *   point.async.executor 로 요청마다 가상 스레드(VIRTUAL) 또는 요청 스레드에서 바로 실행(CALLER)하도록 바꿀 수 있습니다.
+ * - 충전/사용은 실행 전에 PointAdmission 의 허가를 받고, 한도를 넘으면 바로 거절합니다.
+ *   일괄 처리는 항목마다 허가를 받으며, 한 항목이라도 거절되면 받은 허가를 반납하고 일괄 처리 전체를 거절합니다.
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final PointAdmission pointAdmission;
+    private final Executor executor;
+
+    @Autowired
+    public PointAsyncService(PointService pointService, PointAdmission pointAdmission, PointProperties properties) {
+        this(pointService, executorOf(properties.async()), pointAdmission);
+    }
+
+    public PointAsyncService(PointService pointService, PointProperties.Async properties) {
+        this(pointService, executorOf(properties), PointAdmission.disabled());
+    }
+
+    public PointAsyncService(PointService pointService, Executor executor) {
+        this(pointService, executor, PointAdmission.disabled());
+    }
+
+    public PointAsyncService(PointService pointService, Executor executor, PointAdmission pointAdmission) {
+        this.pointService = pointService;
+        this.pointAdmission = pointAdmission;
+        this.executor = executor;
+    }
+
+    // 포인트 조회
+    public CompletableFuture<UserPoint> getUserPointOf(long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.getUserPointOf(userId), executor);
+    }
+
+    // 히스토리 조회
+    public CompletableFuture<List<PointHistory>> getPointHistoriesOf(long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.getPointHistoriesOf(userId), executor);
+    }
+
+    // 히스토리 페이지 조회
+    public CompletableFuture<List<PointHistory>> getPointHistoriesOf(long userId, PointHistoryQuery query) {
+        return CompletableFuture.supplyAsync(() -> pointService.getPointHistoriesOf(userId, query), executor);
+    }
+
+    // 히스토리 스트리밍 - 응답을 쓰는 스레드에서 바로 실행
+    public void streamPointHistoriesOf(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        pointService.streamPointHistoriesOf(userId, query, consumer);
+    }
+
+    // 포인트 집계 조회
+    public CompletableFuture<PointSummary> getPointSummaryOf(long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.getPointSummaryOf(userId), executor);
+    }
+
+    // 포인트 충전
+    public CompletableFuture<UserPoint> chargePointOf(long userId, long amount) {
+        return chargePointOf(userId, amount, null);
+    }
+
+    // 포인트 충전 - Idempotency-Key 가 있으면 같은 키의 재요청은 첫 요청의 결과 반환
+    public CompletableFuture<UserPoint> chargePointOf(long userId, long amount, String idempotencyKey) {
+        return admitted(userId, () -> pointService.chargePointOf(userId, amount, idempotencyKey));
+    }
+
+    // 포인트 사용
+    public CompletableFuture<UserPoint> usePointOf(long userId, long amount) {
+        return usePointOf(userId, amount, null);
+    }
+
+    // 포인트 사용 - Idempotency-Key 가 있으면 같은 키의 재요청은 첫 요청의 결과 반환
+    public CompletableFuture<UserPoint> usePointOf(long userId, long amount, String idempotencyKey) {
+        return admitted(userId, () -> pointService.usePointOf(userId, amount, idempotencyKey));
+    }
+
+    // 일괄 충전/사용 - 유저별 병렬 처리는 PointService 에서 수행
+    public CompletableFuture<List<PointBatchResult>> applyBatch(List<PointCommand> commands) {
+        return admitted(admitAll(commands), () -> pointService.applyBatch(commands));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // 허가받은 요청만 실행 - 끝나면(성공/실패 무관) 허가 반납
+    private <T> CompletableFuture<T> admitted(long userId, Supplier<T> task) {
+        return admitted(List.of(pointAdmission.admit(userId)), task);
+    }
+
+    private <T> CompletableFuture<T> admitted(List<PointAdmission.Permit> permits, Supplier<T> task) {
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(task, executor);
+        } catch (RuntimeException e) {
+            release(permits);
+            throw e;
+        }
+        result.whenComplete((ignored, e) -> release(permits));
+        return result;
+    }
+
+    // 일괄 처리 항목마다 허가 - 한 항목이라도 거절되면 앞서 받은 허가를 반납하고 전체 거절
+    private List<PointAdmission.Permit> admitAll(List<PointCommand> commands) {
+        List<PointAdmission.Permit> permits = new ArrayList<>(commands.size());
+        try {
+            for (PointCommand command : commands) {
+                permits.add(pointAdmission.admit(command.userId()));
+            }
+        } catch (RuntimeException e) {
+            release(permits);
+            throw e;
+        }
+        return permits;
+    }
+
+    private static void release(List<PointAdmission.Permit> permits) {
+        for (PointAdmission.Permit permit : permits) {
+            permit.release();
+        }
+    }
+
+    // 설정된 실행 방식의 실행기 생성
+    private static Executor executorOf(PointProperties.Async properties) {
+        return switch (properties.executor()) {
+            case POOL -> newFixedThreadPool(properties.poolSize());
+            case VIRTUAL -> newVirtualThreadPerTaskExecutor();
+            case CALLER -> Runnable::run;
+        };
+    }
+
+    private static ExecutorService newFixedThreadPool(int poolSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 컴파일 대상이 JDK 17 이므로 리플렉션으로 가상 스레드 실행기 생성 - 가상 스레드 모드는 JDK 21 이상에서만 켜짐
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드는 JDK 21 이상에서 사용할 수 있습니다.", e);
+        }
+    }
+}
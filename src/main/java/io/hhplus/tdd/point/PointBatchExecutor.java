@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 처리 실행기 - 유저 단위 작업을 병렬로 실행
+ * - 테이블 I/O 대기가 대부분이므로 코어 수 배수만큼 스레드를 둡니다.
+ */
+@Component
+public class PointBatchExecutor implements Executor {
+
+    private final ExecutorService executor;
+
+    @Autowired
+    public PointBatchExecutor(PointProperties properties) {
+        this(Runtime.getRuntime().availableProcessors() * properties.batch().threadsPerCore());
+    }
+
+    public PointBatchExecutor(int threadCount) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+}
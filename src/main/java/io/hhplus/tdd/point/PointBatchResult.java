@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 일괄 처리 항목별 결과 - 성공 시 userPoint, 실패 시 error
+ */
+public record PointBatchResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    public static PointBatchResult success(PointCommand command, UserPoint userPoint) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), userPoint, null);
+    }
+
+    public static PointBatchResult failure(PointCommand command, RuntimeException e) {
+        ErrorResponse error = e instanceof IllegalArgumentException
+                ? new ErrorResponse("400", e.getMessage())
+                : new ErrorResponse("500", "에러가 발생했습니다.");
+        return failure(command, error);
+    }
+
+    public static PointBatchResult failure(PointCommand command, ErrorResponse error) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), null, error);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 항목 수가 최대 항목 수를 넘어 거절된 요청
+ */
+public class PointBatchSizeExceededException extends RuntimeException {
+
+    public PointBatchSizeExceededException(int size, int maxSize) {
+        super("일괄 처리는 최대 " + maxSize + "건까지 요청할 수 있습니다. (요청 항목 수: " + size + ")");
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 항목
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
@@ -1,65 +1,189 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.PointProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
-    private final PointService pointService;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private final PointAsyncService pointAsyncService;
+    private final PointEventStream pointEventStream;
+    private final PointProperties.HistoryPage historyPage;
+    private final int maxBatchSize;
+    private final ObjectMapper objectMapper;
 
-    public PointController(PointService pointService) {
-        this.pointService = pointService;
+    public PointController(PointAsyncService pointAsyncService, PointEventStream pointEventStream,
+                           PointProperties properties, ObjectMapper objectMapper) {
+        this.pointAsyncService = pointAsyncService;
+        this.pointEventStream = pointEventStream;
+        this.historyPage = properties.historyPage();
+        this.maxBatchSize = properties.batch().maxSize();
+        this.objectMapper = objectMapper;
     }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(
+    public CompletableFuture<UserPoint> point(
             @PathVariable long id
     ) {
         log.info("포인트 조회 요청: userId={}", id);
-        return pointService.getUserPointOf(id);
+        return pointAsyncService.getUserPointOf(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - afterId 이후의 내역을 id 오름차순으로 반환합니다. limit 을 지정하지 않으면 잘라내지 않고 모두 반환합니다.
+     * - limit 을 지정하면 최대 limit 건(최대 point.history-page.max-limit 건)을 반환하고, 다음 페이지는 마지막 id 를 afterId 로 조회합니다.
+     * - from / to (updateMillis, to 미포함), type 으로 내역을 거를 수 있습니다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        log.info("포인트 충전/이용 내역 조회 요청: userId={}, afterId={}", id, afterId);
+        int pageLimit = limit == null ? Integer.MAX_VALUE : Math.min(limit, historyPage.maxLimit());
+        return pointAsyncService.getPointHistoriesOf(id, query(afterId, pageLimit, from, to, type));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON(한 줄에 내역 하나)으로 스트리밍합니다.
+     * - 전체 목록을 만들지 않고 내역을 한 건씩 응답에 기록하므로, 내역 수와 무관하게 요청당 메모리가 일정합니다.
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody historyStream(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        log.info("포인트 충전/이용 내역 스트리밍 요청: userId={}, afterId={}", id, afterId);
+        PointHistoryQuery query = query(afterId, limit == null ? Integer.MAX_VALUE : limit, from, to, type);
+        return output -> {
+            JsonGenerator generator = objectMapper.createGenerator(output);
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 기록
+            generator.setRootValueSeparator(null);
+            try {
+                pointAsyncService.streamPointHistoriesOf(id, query, history -> {
+                    try {
+                        generator.writeObject(history);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.flush();
+        };
+    }
+
+    /**
+     * 포인트 충전/이용 이벤트를 Server-Sent Events 로 구독합니다. (event: point, data: 히스토리 JSON)
+     * - 이벤트 id 는 히스토리 id 이며, Last-Event-ID 헤더 또는 afterId 를 지정하면 그 이후의 이벤트부터 받습니다.
+     *   지정하지 않으면 구독 이후에 발생한 이벤트만 받습니다.
+     * - userId 를 지정하면 해당 유저의 이벤트만 받고, 놓친 이벤트는 히스토리에서 보충합니다.
+     * - 전체 구독에서 이벤트를 놓치면 gap 이벤트(data: 마지막으로 받은 id)를 받으므로, 필요하면 히스토리 조회로 보충합니다.
+     */
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long afterId,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId
+    ) {
+        log.info("포인트 이벤트 구독 요청: userId={}, afterId={}", userId, lastEventId != null ? lastEventId : afterId);
+        return pointEventStream.open(userId, lastEventId != null ? lastEventId : afterId);
+    }
+
+    /**
+     * 특정 유저의 누적 충전/사용 금액, 건수, 마지막 충전/사용 시각을 조회합니다.
+     */
+    @GetMapping("{id}/summary")
+    public CompletableFuture<PointSummary> summary(
             @PathVariable long id
     ) {
-        log.info("포인트 충전/이용 내역 조회 요청: userId={}", id);
-        return pointService.getPointHistoriesOf(id);
+        log.info("포인트 집계 조회 요청: userId={}", id);
+        return pointAsyncService.getPointSummaryOf(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 요청해도 한 번만 충전하고 첫 요청의 결과를 반환합니다.
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.info("포인트 충전 요청: userId={}", id);
-        return pointService.chargePointOf(id, amount);
+        // 핫 패스 - 로그 레벨이 꺼져 있으면 id 박싱도 하지 않음
+        if (log.isDebugEnabled()) {
+            log.debug("포인트 충전 요청: userId={}", id);
+        }
+        return pointAsyncService.chargePointOf(id, amount, idempotencyKey);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 요청해도 한 번만 사용하고 첫 요청의 결과를 반환합니다.
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        // 핫 패스 - 로그 레벨이 꺼져 있으면 id 박싱도 하지 않음
+        if (log.isDebugEnabled()) {
+            log.debug("포인트 사용 요청: userId={}", id);
+        }
+        return pointAsyncService.usePointOf(id, amount, idempotencyKey);
+    }
+
+    /**
+     * 여러 유저의 포인트를 일괄 충전/사용합니다. 항목별로 성공/실패 결과를 반환합니다.
+     * - 항목 수가 point.batch.max-size 를 넘으면 요청 전체를 400 으로 거절합니다.
+     */
+    @PostMapping("batch")
+    public CompletableFuture<List<PointBatchResult>> batch(
+            @RequestBody List<PointCommand> commands
     ) {
-        log.info("포인트 사용 요청: userId={}", id);
-        return pointService.usePointOf(id, amount);
+        log.info("포인트 일괄 처리 요청: size={}", commands.size());
+        if (commands.size() > maxBatchSize) {
+            throw new PointBatchSizeExceededException(commands.size(), maxBatchSize);
+        }
+        return pointAsyncService.applyBatch(commands);
+    }
+
+    private static PointHistoryQuery query(long afterId, int limit, Long from, Long to, TransactionType type) {
+        return new PointHistoryQuery(afterId, limit,
+                from == null ? Long.MIN_VALUE : from,
+                to == null ? Long.MAX_VALUE : to,
+                type);
     }
 }
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import java.util.function.Consumer;
+
+/**
+ * 유저 락 대신 잔액을 보관/반영하는 엔진 (point.engine.mode)
+ * - 설정된 모드의 엔진만 enabled 이며, PointService 는 enabled 엔진이 없으면 유저 락으로 반영합니다.
+ * - 반영 후 처리(applied)는 같은 유저에 대해 반영 순서대로 호출되므로, 로그/히스토리 순서가 잔액 반영 순서와 같습니다.
+ */
+public interface PointEngine {
+
+    boolean isEnabled();
+
+    // 잔액 조회
+    UserPoint get(long userId);
+
+    // 잔액 검증 후 반영하고 반영된 잔액 반환 - 검증 실패 시 PointValidationException
+    default UserPoint apply(PointOperation operation) {
+        return apply(operation, applied -> {
+        });
+    }
+
+    // 잔액 검증 후 반영하고, 같은 유저의 다음 반영 결과보다 먼저 applied 호출 - applied 의 예외는 그대로 전달
+    UserPoint apply(PointOperation operation, Consumer<UserPoint> applied);
+}
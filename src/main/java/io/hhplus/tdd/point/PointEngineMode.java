@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+
+/**
+ * 충전/사용 잔액 갱신 방식
+ * - LOCK : 유저별 StampedLock 쓰기 락 안에서 대기 중인 요청을 결합해 반영 (UserPointTable 에 바로 기록)
+ * - CAS : 유저별 원자적 잔액 셀에 compare-and-set 재시도로 반영하고, UserPointTable 에는 write-behind 로 기록
+ * - SHARDED : userId 로 나눈 shard 마다 단일 스레드가 잔액을 소유하고, 요청은 shard 대기열(ring buffer)로 전달
+ */
+public enum PointEngineMode {
+    LOCK, CAS, SHARDED
+}
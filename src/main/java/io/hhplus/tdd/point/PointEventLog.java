@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 포인트 충전/사용 이벤트 로그 (in-process publish/subscribe)
+ * - 테이블에 반영된 히스토리를 반영 순서(id 오름차순) 그대로 고정 크기 ring buffer 에 기록합니다.
+ * - 구독자는 각자의 커서로 ring buffer 를 읽으므로, 느린 구독자가 있어도 기록은 기다리지 않고 가장 오래된 이벤트를 덮어씁니다.
+ * - 덮어써서 놓친 구간은 구독자가 알 수 있으므로, 히스토리 조회로 보충할 수 있습니다.
+ * - publish 는 PointHistoryWriter 의 drainer 스레드 하나에서만 호출합니다.
+ */
+@Component
+public class PointEventLog {
+
+    private static final long EMPTY = -1L;
+    private static final String TOO_MANY_SUBSCRIBERS_MESSAGE = "이벤트 구독자가 많아 구독할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final boolean enabled;
+    private final int maxSubscribers;
+    private final int mask;
+    private final AtomicReferenceArray<PointHistory> events;
+    // 슬롯에 기록된 이벤트의 순번 - 덮어쓰는 동안은 EMPTY
+    private final AtomicLongArray sequences;
+    private final Set<PointEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // 다음에 기록할 순번 (drainer 스레드만 변경)
+    private volatile long published;
+
+    @Autowired
+    public PointEventLog(PointProperties properties, PointMetrics pointMetrics) {
+        this(properties.events(), pointMetrics);
+    }
+
+    public PointEventLog(PointProperties.Events properties, PointMetrics pointMetrics) {
+        this.enabled = properties.enabled();
+        this.maxSubscribers = properties.maxSubscribers();
+        int size = enabled ? Integer.highestOneBit(Math.max(2, properties.capacity()) - 1) << 1 : 1;
+        this.mask = size - 1;
+        this.events = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, EMPTY);
+        }
+        pointMetrics.registerGauge("events.published", () -> published);
+        pointMetrics.registerGauge("events.subscribers", subscriptions::size);
+    }
+
+    // 이벤트를 발행하지 않는 로그
+    public static PointEventLog disabled() {
+        return new PointEventLog(new PointProperties.Events(false, 1, 0, 0), new PointMetrics(false));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 이벤트 기록 - drainer 스레드 전용, 구독자를 기다리지 않음
+    void publish(PointHistory history) {
+        if (!enabled) {
+            return;
+        }
+        long sequence = published;
+        int index = (int) sequence & mask;
+        // 읽는 쪽이 덮어쓰는 중인 슬롯을 이전 이벤트로 오인하지 않도록 순번을 먼저 지움
+        sequences.set(index, EMPTY);
+        events.set(index, history);
+        sequences.set(index, sequence);
+        published = sequence + 1;
+    }
+
+    // 배치 기록 후 새 이벤트를 기다리는 구독자를 깨움
+    void signal() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        for (PointEventSubscription subscription : subscriptions) {
+            subscription.wakeUp();
+        }
+    }
+
+    // afterId 이후의 이벤트부터 구독 - afterId 가 null 이면 구독 이후 발행되는 이벤트부터
+    public PointEventSubscription subscribe(Long afterId) {
+        if (!enabled) {
+            throw new IllegalStateException("이벤트 로그가 비활성화되어 있습니다.");
+        }
+        PointEventSubscription subscription = afterId == null
+                ? new PointEventSubscription(this, published, Long.MIN_VALUE, false)
+                : subscribeAfter(afterId);
+        subscriptions.add(subscription);
+        if (subscriptions.size() > maxSubscribers) {
+            subscriptions.remove(subscription);
+            throw new PointOverloadedException(TOO_MANY_SUBSCRIBERS_MESSAGE);
+        }
+        return subscription;
+    }
+
+    void unsubscribe(PointEventSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    long published() {
+        return published;
+    }
+
+    // 아직 덮어쓰지 않은 가장 오래된 순번
+    long oldest() {
+        return Math.max(0L, published - events.length());
+    }
+
+    // 순번의 이벤트 - 아직 기록되지 않았거나 이미 덮어썼으면 null
+    PointHistory read(long sequence) {
+        int index = (int) sequence & mask;
+        if (sequences.get(index) != sequence) {
+            return null;
+        }
+        PointHistory history = events.get(index);
+        return sequences.get(index) == sequence ? history : null;
+    }
+
+    // id 가 afterId 보다 큰 첫 이벤트의 순번을 이진 탐색 - 이벤트 id 는 순번과 같은 순서로 증가
+    private PointEventSubscription subscribeAfter(long afterId) {
+        long low = oldest();
+        long high = published;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            PointHistory history = read(middle);
+            if (history == null || history.id() <= afterId) {
+                // 탐색 중 덮어쓴 이벤트는 더 오래된 이벤트이므로 건너뜀
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        // 남아 있는 가장 오래된 이벤트보다 앞선 구간을 요청했고, 그 사이 id 가 있을 수 있으면 놓친 구간
+        PointHistory first = read(low);
+        boolean missed = low > 0 && low <= oldest() && (first == null || first.id() - 1 > afterId);
+        return new PointEventSubscription(this, low, afterId, missed);
+    }
+}
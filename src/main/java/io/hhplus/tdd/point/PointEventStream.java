@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 이벤트 Server-Sent Events 스트리밍
+ * - 구독자마다 전용 스레드가 PointEventSubscription 을 읽어 전송하므로, 느린 연결은 자기 스레드만 붙잡고 기록 경로는 기다리지 않습니다.
+ * - 이벤트 id 는 히스토리 id 이므로, 재연결 시 Last-Event-ID 이후의 이벤트부터 이어서 받습니다.
+ * - ring buffer 에서 놓친 구간은 유저를 지정한 구독이면 히스토리 조회로 보충하고, 전체 구독이면 gap 이벤트(data : 마지막으로 받은 id)로 알립니다.
+ */
+@Component
+public class PointEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEventStream.class);
+    private static final String EVENT_NAME = "point";
+    private static final String GAP_EVENT_NAME = "gap";
+    private static final int BATCH_SIZE = 256;
+
+    private final PointEventLog pointEventLog;
+    private final PointService pointService;
+    private final long heartbeatNanos;
+    private final ExecutorService executor = Executors.newCachedThreadPool(new EventThreadFactory());
+
+    @Autowired
+    public PointEventStream(PointEventLog pointEventLog, PointService pointService, PointProperties properties) {
+        this(pointEventLog, pointService, properties.events());
+    }
+
+    public PointEventStream(PointEventLog pointEventLog, PointService pointService,
+                            PointProperties.Events properties) {
+        this.pointEventLog = pointEventLog;
+        this.pointService = pointService;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(properties.heartbeatMillis());
+    }
+
+    // 구독 시작 - userId 가 null 이면 전체 유저, afterId 가 null 이면 구독 이후 발행되는 이벤트부터
+    public SseEmitter open(Long userId, Long afterId) {
+        PointEventSubscription subscription = pointEventLog.subscribe(afterId);
+        // 연결이 유지되는 동안 만료하지 않음
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        try {
+            executor.execute(() -> stream(emitter, subscription, userId));
+        } catch (RejectedExecutionException e) {
+            subscription.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void stream(SseEmitter emitter, PointEventSubscription subscription, Long userId) {
+        List<PointHistory> batch = new ArrayList<>(BATCH_SIZE);
+        long lastSentAt = System.nanoTime();
+        try {
+            while (!subscription.isClosed() && !Thread.currentThread().isInterrupted()) {
+                if (subscription.takeMissed()) {
+                    if (userId == null) {
+                        emitter.send(SseEmitter.event().name(GAP_EVENT_NAME).data(subscription.lastId()));
+                    } else {
+                        backfill(emitter, subscription, userId);
+                    }
+                    lastSentAt = System.nanoTime();
+                }
+
+                subscription.poll(batch::add, BATCH_SIZE);
+                for (PointHistory history : batch) {
+                    if (userId == null || history.userId() == userId) {
+                        send(emitter, history);
+                        lastSentAt = System.nanoTime();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    batch.clear();
+                    continue;
+                }
+
+                // 새 이벤트가 없으면 연결 유지용 주석을 보내고 발행을 기다림 - 끊긴 연결도 이때 감지
+                long idleNanos = System.nanoTime() - lastSentAt;
+                if (idleNanos >= heartbeatNanos) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    lastSentAt = System.nanoTime();
+                    idleNanos = 0L;
+                }
+                subscription.await(heartbeatNanos - idleNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("이벤트 구독 연결 종료: userId={}", userId, e);
+        } finally {
+            subscription.close();
+            emitter.complete();
+        }
+    }
+
+    // 놓친 구간 보충 - 마지막으로 받은 id 이후의 유저 히스토리를 조회해 전송
+    private void backfill(SseEmitter emitter, PointEventSubscription subscription, long userId) throws IOException {
+        PointHistoryQuery query = new PointHistoryQuery(subscription.lastId(), Integer.MAX_VALUE,
+                Long.MIN_VALUE, Long.MAX_VALUE, null);
+        try {
+            pointService.streamPointHistoriesOf(userId, query, history -> {
+                try {
+                    send(emitter, history);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                subscription.skipThrough(history.id());
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void send(SseEmitter emitter, PointHistory history) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(history.id()))
+                .name(EVENT_NAME)
+                .data(history, MediaType.APPLICATION_JSON));
+    }
+
+    private static class EventThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "point-event-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
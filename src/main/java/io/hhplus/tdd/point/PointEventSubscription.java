@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * PointEventLog 구독 - 구독자별 커서
+ * - poll 로 커서 이후의 이벤트를 꺼내고, 새 이벤트가 없으면 await 로 발행을 기다립니다.
+ * - 구독자가 ring buffer 한 바퀴 이상 뒤처져 이벤트를 놓치면 poll 이 멈추고 takeMissed 가 한 번 true 를 반환합니다.
+ *   커서는 남아 있는 가장 오래된 이벤트로 옮겨지므로, 호출한 쪽은 lastId 이후의 히스토리를 조회해 보충한 뒤 skipThrough 로 알립니다.
+ * - 한 스레드에서만 사용합니다. (wakeUp / close 제외)
+ */
+public class PointEventSubscription implements AutoCloseable {
+
+    private final PointEventLog eventLog;
+    private long cursor;
+    private long lastId;
+    private boolean missed;
+    private volatile Thread waiter;
+    private volatile boolean closed;
+
+    PointEventSubscription(PointEventLog eventLog, long cursor, long lastId, boolean missed) {
+        this.eventLog = eventLog;
+        this.cursor = cursor;
+        this.lastId = lastId;
+        this.missed = missed;
+    }
+
+    // 최대 max 건의 이벤트를 id 순서대로 consumer 에 전달하고 전달한 건수 반환 - 놓친 구간을 발견하면 멈춤
+    public int poll(Consumer<PointHistory> consumer, int max) {
+        int count = 0;
+        while (count < max && !missed && cursor < eventLog.published()) {
+            PointHistory history = eventLog.read(cursor);
+            if (history == null) {
+                // 읽기 전에 덮어씀 - 남아 있는 가장 오래된 이벤트부터 다시 읽음
+                missed = true;
+                cursor = eventLog.oldest();
+                break;
+            }
+            cursor++;
+            if (history.id() <= lastId) {
+                // 보충 조회로 이미 전달한 이벤트
+                continue;
+            }
+            lastId = history.id();
+            consumer.accept(history);
+            count++;
+        }
+        return count;
+    }
+
+    // 놓친 구간이 있었는지 확인하고 초기화
+    public boolean takeMissed() {
+        boolean result = missed;
+        missed = false;
+        return result;
+    }
+
+    // 마지막으로 전달한 이벤트 id
+    public long lastId() {
+        return lastId;
+    }
+
+    // 보충 조회로 id 까지 전달했음을 기록 - 이후 poll 은 id 이하의 이벤트를 건너뜀
+    public void skipThrough(long id) {
+        lastId = Math.max(lastId, id);
+    }
+
+    // 새 이벤트가 발행되거나 timeout 이 지나거나 구독이 닫힐 때까지 대기
+    public void await(long timeout, TimeUnit unit) {
+        waiter = Thread.currentThread();
+        try {
+            if (!closed && !missed && cursor >= eventLog.published()) {
+                LockSupport.parkNanos(this, unit.toNanos(timeout));
+            }
+        } finally {
+            waiter = null;
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    void wakeUp() {
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        eventLog.unsubscribe(this);
+        wakeUp();
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarHistoryStore;
+import io.hhplus.tdd.database.ColumnarPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 유저별 포인트 히스토리 보조 인덱스
+ * - PointHistoryTable 은 전체 히스토리를 순회하므로, 유저별 히스토리를 별도로 보관해 조회 비용을 해당 유저의 히스토리 수로 제한합니다.
+ * - 테이블 반영 순서(id 순서)대로 추가되는 append-only 구조이며, 추가는 히스토리 write-behind 스레드 하나만 수행합니다.
+ * - 히스토리는 컬럼 단위로 압축해 보관하고 조회 시점에만 PointHistory 로 복원합니다. (ColumnarHistoryStore)
+ * - 테이블이 이미 유저별 컬럼 저장소(ColumnarPointHistoryTable)라면 따로 보관하지 않고 테이블 저장소를 그대로 조회합니다.
+ * - write-ahead log 를 사용하면 히스토리 id 는 로그 순번이므로 재시작해도 바뀌지 않습니다. (afterId 커서, Last-Event-ID 유지)
+ *   기동 시 로그에서 복구한 히스토리는 테이블을 거치지 않고 같은 id 로 바로 추가합니다. (restore)
+ * - 스냅샷으로 복구하면 스냅샷 이전 히스토리는 로그 파일에만 남고 재생하지 않으므로, 재시작 후 조회에는 스냅샷 이후 히스토리만 포함됩니다.
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final ColumnarHistoryStore store;
+    private final ColumnarPointHistoryTable sharedTable;
+
+    // 복구를 마친 로그 위치 - 이 위치 이하의 히스토리는 복구했거나(스냅샷 이후) 스냅샷에 포함되어 다시 추가되지 않음
+    private volatile long restoredThrough;
+
+    public PointHistoryIndex() {
+        this.store = new ColumnarHistoryStore();
+        this.sharedTable = null;
+    }
+
+    @Autowired
+    public PointHistoryIndex(PointHistoryTable pointHistoryTable) {
+        if (pointHistoryTable instanceof ColumnarPointHistoryTable columnarTable) {
+            this.store = columnarTable.store();
+            this.sharedTable = columnarTable;
+        } else {
+            this.store = new ColumnarHistoryStore();
+            this.sharedTable = null;
+        }
+    }
+
+    // 테이블에 반영된 히스토리 추가 - 단일 writer, 테이블 저장소를 그대로 조회하면 이미 추가되어 있음
+    public PointHistory append(PointHistory history) {
+        if (sharedTable == null) {
+            store.append(history.id(), history.userId(), history.amount(), history.type(), history.updateMillis());
+        }
+        return history;
+    }
+
+    // write-ahead log 에서 복구한 히스토리를 로그 순번 id 로 추가 - 요청을 받기 전(기동 시점)에만 호출
+    public void restore(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        if (sharedTable != null) {
+            sharedTable.insert(id, userId, amount, type, updateMillis);
+        } else {
+            store.append(id, userId, amount, type, updateMillis);
+        }
+    }
+
+    // 복구 완료 - 이후 히스토리는 logPosition 다음 순번부터 이어짐
+    public void restoredThrough(long logPosition) {
+        this.restoredThrough = logPosition;
+    }
+
+    public long restoredThrough() {
+        return restoredThrough;
+    }
+
+    // 유저 히스토리 조회 - id 오름차순
+    public List<PointHistory> historiesOf(long userId) {
+        return store.historiesOf(userId);
+    }
+
+    // 조건에 맞는 유저 히스토리를 id 오름차순으로 최대 limit 건 전달 - visitor 가 false 를 반환하면 중단
+    // 조건에 맞는 행만 PointHistory 로 만들므로 히스토리 길이와 무관하게 한 번에 한 건만 보유합니다.
+    public void forEachHistoryOf(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        int[] remaining = {query.limit()};
+        store.forEach(userId, query.afterId(), (id, amount, type, updateMillis) -> {
+            if (!query.matches(type, updateMillis)) {
+                return true;
+            }
+            remaining[0]--;
+            return visitor.test(new PointHistory(id, userId, amount, type, updateMillis)) && remaining[0] > 0;
+        });
+    }
+
+    // 테이블 조회 결과와 인덱스가 일치하는지 검증 - 복구한 히스토리는 테이블에 없으므로 제외하고 비교
+    // write-ahead log 를 사용하면 인덱스 id 는 로그 순번이라 테이블 id 와 다르므로, 내용과 순서, id 오름차순만 비교
+    public boolean isConsistentWith(long userId, List<PointHistory> tableHistories) {
+        List<PointHistory> indexed = historiesOf(userId);
+        if (sharedTable != null) {
+            return indexed.equals(tableHistories);
+        }
+        long restored = restoredThrough;
+        int offset = 0;
+        while (offset < indexed.size() && indexed.get(offset).id() <= restored) {
+            offset++;
+        }
+        if (indexed.size() - offset != tableHistories.size()) {
+            return false;
+        }
+        long previousId = restored;
+        for (int i = 0; i < tableHistories.size(); i++) {
+            PointHistory index = indexed.get(offset + i);
+            PointHistory table = tableHistories.get(i);
+            boolean sameRow = index.userId() == table.userId() && index.amount() == table.amount()
+                    && index.type() == table.type() && index.updateMillis() == table.updateMillis();
+            if (!sameRow || index.id() <= previousId) {
+                return false;
+            }
+            previousId = index.id();
+        }
+        return true;
+    }
+
+    // 복구한 히스토리에 테이블 조회 결과를 이어 붙인 전체 히스토리 (집계 검증용, 테이블 행의 id 는 테이블 id 그대로)
+    public List<PointHistory> withRestored(long userId, List<PointHistory> tableHistories) {
+        long restored = restoredThrough;
+        if (restored == 0 || sharedTable != null) {
+            return tableHistories;
+        }
+        List<PointHistory> histories = new ArrayList<>();
+        store.forEach(userId, 0L, (id, amount, type, updateMillis) -> {
+            if (id > restored) {
+                return false;
+            }
+            histories.add(new PointHistory(id, userId, amount, type, updateMillis));
+            return true;
+        });
+        histories.addAll(tableHistories);
+        return histories;
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 히스토리 조회 조건
+ * - afterId : 이 id 이후의 히스토리부터 조회 (커서, 다음 페이지는 직전 페이지의 마지막 id)
+ * - limit : 최대 조회 건수
+ * - fromMillis / toMillis : updateMillis 가 from 이상 to 미만인 히스토리만 조회
+ * - type : null 이 아니면 해당 타입만 조회
+ */
+public record PointHistoryQuery(
+        long afterId,
+        int limit,
+        long fromMillis,
+        long toMillis,
+        TransactionType type
+) {
+
+    public PointHistoryQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 건수는 1건 이상이어야 합니다.");
+        }
+    }
+
+    // 조건 없이 전체 조회
+    public static PointHistoryQuery all() {
+        return new PointHistoryQuery(0L, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, null);
+    }
+
+    public boolean matches(TransactionType type, long updateMillis) {
+        return (this.type == null || this.type == type) && updateMillis >= fromMillis && updateMillis < toMillis;
+    }
+}
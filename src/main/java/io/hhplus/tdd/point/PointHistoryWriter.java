@@ -0,0 +1,263 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.ColumnarPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.metrics.Metric;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 히스토리 write-behind 기록기
+ * - 히스토리를 제한된 대기열에 적재하고, 단일 drainer 스레드가 배치 단위로 PointHistoryTable 에 반영합니다.
+ * - 유저 락 안에서는 적재만 하므로 락 점유 시간이 잔액 갱신 1회 왕복으로 줄어듭니다.
+ * - 반영된 히스토리는 PointHistoryIndex 에 id 순서대로 추가되고, 같은 순서로 PointEventLog 에 이벤트로 발행됩니다.
+ * - 충전/사용 요청(PointOperation)은 그 자체를 대기열 항목으로 적재하므로, 적재 시 항목 객체를 따로 만들지 않습니다.
+ * - write-ahead log 에 기록된 항목은 로그 순번을 히스토리 id 로 쓰고, 로그 순번 순서대로 반영합니다.
+ *   로그 기록과 적재 사이에 다른 유저의 요청이 끼어들어 순서가 바뀌어 적재될 수 있으므로, 앞 순번이 적재될 때까지 뒤 순번을 보류합니다.
+ *   로그에 기록되었지만 적재하지 못한 순번은 skip 으로 알려 보류가 풀리도록 합니다.
+ */
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointEventLog pointEventLog;
+    private final PointMetrics pointMetrics;
+    private final HistoryDurability durability;
+    private final int batchSize;
+    private final BlockingQueue<PendingHistory> queue;
+    // 로그에 기록되었지만 적재하지 못한 순번
+    private final Set<Long> skipped = ConcurrentHashMap.newKeySet();
+    // 앞 순번을 기다리며 보류 중인 항목과 다음에 반영할 로그 순번 (drainer 스레드 전용)
+    private final PriorityQueue<PendingHistory> held = new PriorityQueue<>(
+            Comparator.comparingLong(PendingHistory::logPosition));
+    private long nextLogPosition = -1L;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    @Autowired
+    public PointHistoryWriter(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex,
+                              PointProperties properties, PointMetrics pointMetrics, PointEventLog pointEventLog) {
+        this(pointHistoryTable, pointHistoryIndex, properties.history(), pointMetrics, pointEventLog);
+    }
+
+    public PointHistoryWriter(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex,
+                              PointProperties.History properties, PointMetrics pointMetrics) {
+        this(pointHistoryTable, pointHistoryIndex, properties, pointMetrics, PointEventLog.disabled());
+    }
+
+    public PointHistoryWriter(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex,
+                              PointProperties.History properties, PointMetrics pointMetrics,
+                              PointEventLog pointEventLog) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointEventLog = pointEventLog;
+        this.pointMetrics = pointMetrics;
+        this.durability = properties.durability();
+        this.batchSize = properties.batchSize();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.drainer = new Thread(this::drain, "point-history-writer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+        pointMetrics.registerGauge("history.backlog", this::backlog);
+    }
+
+    // 히스토리 적재 - SYNC 모드일 경우 반환된 future 는 테이블 반영 시 완료
+    public CompletableFuture<PointHistory> append(long userId, long amount, TransactionType type, long updateMillis) {
+        FutureHistory pending = new FutureHistory(userId, amount, type, updateMillis);
+        append(pending);
+        return pending.flushed;
+    }
+
+    // 히스토리 적재 - ASYNC 모드는 적재 직후, SYNC 모드는 테이블 반영 후 committed 호출
+    void append(PendingHistory pending) {
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.drained();
+            throw new IllegalStateException("히스토리 적재 중 인터럽트가 발생했습니다.", e);
+        }
+
+        if (durability == HistoryDurability.ASYNC) {
+            pending.committed(null);
+        }
+    }
+
+    // 로그에 기록되었지만 적재하지 못한 순번 - 뒤 순번의 보류를 풀기 위해 반드시 알려야 함
+    void skip(long logPosition) {
+        if (logPosition > 0L) {
+            skipped.add(logPosition);
+        }
+    }
+
+    // 아직 테이블에 반영되지 않은 히스토리 수
+    public int backlog() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        drainer.interrupt();
+        drainer.join();
+    }
+
+    private void drain() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        List<PendingHistory> ready = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !held.isEmpty()) {
+            try {
+                // 보류 중이면 건너뛴 순번이 알려졌는지 짧게 기다리며 다시 확인
+                PendingHistory first = held.isEmpty() ? queue.take() : queue.poll(1, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청 - 남은 대기열은 아래에서 모두 반영
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            order(batch, ready, !running && queue.isEmpty());
+            flush(ready);
+            batch.clear();
+            ready.clear();
+        }
+    }
+
+    // 로그 순번 순서로 반영할 항목 정리 - 로그를 거치지 않은 항목은 바로, 앞 순번이 빠진 항목은 보류
+    // 종료 시에는 적재되지 않을 순번을 더 기다리지 않고 보류 중인 항목을 모두 반영
+    private void order(List<PendingHistory> batch, List<PendingHistory> ready, boolean closing) {
+        for (PendingHistory pending : batch) {
+            if (pending.logPosition() == 0L) {
+                ready.add(pending);
+            } else {
+                held.add(pending);
+            }
+        }
+        if (held.isEmpty()) {
+            return;
+        }
+        if (nextLogPosition < 0L) {
+            nextLogPosition = pointHistoryIndex.restoredThrough() + 1;
+        }
+        while (!held.isEmpty()) {
+            long position = held.peek().logPosition();
+            if (position <= nextLogPosition || closing) {
+                ready.add(held.poll());
+                nextLogPosition = Math.max(nextLogPosition, position + 1);
+            } else if (skipped.remove(nextLogPosition)) {
+                nextLogPosition++;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void flush(List<PendingHistory> batch) {
+        pointMetrics.recordValue(Metric.HISTORY_BATCH, batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingHistory pending = batch.get(i);
+            PointHistory history;
+            try {
+                long startedAt = pointMetrics.startTimer();
+                history = insert(pending);
+                pointMetrics.recordSince(Metric.HISTORY_INSERT, startedAt);
+                // 테이블 반영 순서 그대로 유저별 인덱스에 추가하고 이벤트 발행
+                pointHistoryIndex.append(history);
+                pointEventLog.publish(history);
+            } catch (RuntimeException e) {
+                log.error("히스토리 기록 실패: userId={}", pending.userId(), e);
+                pending.drained();
+                if (durability == HistoryDurability.SYNC) {
+                    pending.failed(e);
+                }
+                continue;
+            }
+            // drained 이후로는 항목을 참조하지 않음 - 요청한 쪽이 재사용할 수 있음
+            pending.drained();
+            if (durability == HistoryDurability.SYNC) {
+                pending.committed(history);
+            }
+        }
+        pointEventLog.signal();
+    }
+
+    // 테이블 반영 - 로그에 기록된 항목은 로그 순번을 id 로 사용해 재시작 후 복구한 히스토리와 같은 id 유지
+    private PointHistory insert(PendingHistory pending) {
+        long logPosition = pending.logPosition();
+        if (logPosition > 0L && pointHistoryTable instanceof ColumnarPointHistoryTable columnarTable) {
+            return columnarTable.insert(logPosition,
+                    pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+        }
+        PointHistory inserted = pointHistoryTable.insert(
+                pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+        return logPosition > 0L
+                ? new PointHistory(logPosition, inserted.userId(), inserted.amount(), inserted.type(), inserted.updateMillis())
+                : inserted;
+    }
+
+    // 반영 결과를 future 로 전달하는 항목
+    private static class FutureHistory extends PendingHistory {
+
+        private final long userId;
+        private final long amount;
+        private final TransactionType type;
+        private final long updateMillis;
+        private final CompletableFuture<PointHistory> flushed = new CompletableFuture<>();
+
+        FutureHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            this.userId = userId;
+            this.amount = amount;
+            this.type = type;
+            this.updateMillis = updateMillis;
+        }
+
+        @Override
+        long userId() {
+            return userId;
+        }
+
+        @Override
+        long amount() {
+            return amount;
+        }
+
+        @Override
+        TransactionType type() {
+            return type;
+        }
+
+        @Override
+        long updateMillis() {
+            return updateMillis;
+        }
+
+        @Override
+        void committed(PointHistory history) {
+            flushed.complete(history);
+        }
+
+        @Override
+        void failed(RuntimeException e) {
+            flushed.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.BalanceMap;
+import io.hhplus.tdd.database.PointSnapshotter;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.SummaryMap;
+import io.hhplus.tdd.database.UserPointTable;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 write-ahead log 로 테이블 복구
+ * - 최근 스냅샷의 잔액을 불러온 뒤, 스냅샷 cursor 이후의 로그만 재생해 히스토리를 다시 추가하고 잔액에 합산합니다.
+ * - 스냅샷을 사용하지 않으면 로그를 처음부터 재생합니다.
+ *   스냅샷 이전 히스토리는 로그 파일에만 남으므로 재시작 후 히스토리 조회에는 나오지 않습니다. (잔액과 집계에는 포함)
+ * - 히스토리는 레코드마다 테이블 insert(최대 300ms) 를 거치지 않고 로그 순번을 id 로 히스토리 인덱스에 바로 추가합니다.
+ *   재시작 전과 같은 id 이므로 afterId 커서와 Last-Event-ID 를 그대로 이어서 사용할 수 있습니다.
+ * - 잔액은 유저별로 합산한 뒤 PrimitiveUserPointTable.restore 로 한 번에 저장하고, 잔액 캐시도 함께 채웁니다.
+ *   UserPointTable 은 유저마다 insertOrUpdate(최대 300ms) 를 거쳐 유저 수에 비례해 기동이 늦어지므로,
+ *   로그를 사용하려면 point.table.store=primitive 가 필요합니다. (heap 이면 기동 시 예외)
+ * - 유저별 집계는 스냅샷에 함께 기록된 집계에 재생한 로그를 합산해 채우므로, 스냅샷 이전 히스토리까지 포함합니다.
+ * - 웹 서버가 요청을 받기 전(빈 초기화 시점)에 끝납니다.
+ */
+@Component
+public class PointLogRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLogRecovery.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotter pointSnapshotter;
+    private final UserPointTable userPointTable;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryStore pointSummaryStore;
+    private final UserPointCache userPointCache;
+
+    public PointLogRecovery(PointWriteAheadLog pointWriteAheadLog, PointSnapshotter pointSnapshotter,
+                            UserPointTable userPointTable, PointHistoryIndex pointHistoryIndex,
+                            PointSummaryStore pointSummaryStore, UserPointCache userPointCache) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointSnapshotter = pointSnapshotter;
+        this.userPointTable = userPointTable;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryStore = pointSummaryStore;
+        this.userPointCache = userPointCache;
+    }
+
+    @PostConstruct
+    void recoverOnStartup() {
+        recover();
+    }
+
+    // 재생한 로그 레코드 수 반환
+    public long recover() {
+        if (!pointWriteAheadLog.isEnabled()) {
+            return 0L;
+        }
+        if (!(userPointTable instanceof PrimitiveUserPointTable primitiveTable)) {
+            throw new IllegalStateException(
+                    "point.wal.enabled=true 는 point.table.store=primitive 에서만 사용할 수 있습니다.");
+        }
+        long startedAt = System.nanoTime();
+        BalanceMap balances = new BalanceMap();
+        SummaryMap summaries = new SummaryMap();
+        long cursor = pointSnapshotter.restore(balances, summaries);
+        // 스냅샷 cursor 다음 레코드의 로그 순번부터 히스토리 id 로 사용
+        long[] logPosition = {cursor};
+        long replayed = pointWriteAheadLog.replay(cursor, Long.MAX_VALUE, record -> {
+            boolean charge = record.type() == TransactionType.CHARGE;
+            balances.add(record.userId(), charge ? record.amount() : -record.amount());
+            summaries.add(record.userId(), charge ? record.amount() : 0L, charge ? 0L : record.amount(),
+                    1L, record.updateMillis());
+            pointHistoryIndex.restore(++logPosition[0], record.userId(), record.amount(), record.type(),
+                    record.updateMillis());
+        });
+        pointHistoryIndex.restoredThrough(cursor + replayed);
+        long restoredMillis = System.currentTimeMillis();
+        primitiveTable.restore(balances, restoredMillis);
+        balances.forEach((userId, point) -> userPointCache.put(new UserPoint(userId, point, restoredMillis)));
+        summaries.forEach(pointSummaryStore::add);
+        pointSnapshotter.start(balances, summaries, cursor + replayed);
+
+        log.info("WAL 복구 완료: snapshotCursor={}, records={}, users={}, elapsedMs={}",
+                cursor, replayed, balances.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return replayed;
+    }
+}
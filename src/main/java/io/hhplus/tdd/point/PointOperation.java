@@ -0,0 +1,209 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 결합 대기열에 적재되는 충전/사용 요청
+ * - processed : 결합 스레드가 처리했는지 여부 (유저 락으로 보호)
+ * - logPosition / loggedMillis : write-ahead log 에 기록된 위치와 시각 (유저 락으로 보호)
+ * - result / failure : 요청한 스레드에 전달할 결과 또는 예외, done 이 true 가 된 뒤에만 읽음
+ * - 결과를 받은 요청은 같은 스레드의 다음 요청에 재사용할 수 있으므로(PointService), 결과를 전달한 뒤에는 다른 스레드가 참조하지 않습니다.
+ */
+class PointOperation extends PendingHistory {
+
+    private long userId;
+    private TransactionType type;
+    private long amount;
+
+    // 유저 락 대기열 연결 - 적재한 스레드와 꺼내는 스레드가 다르므로 volatile
+    private volatile PointOperation next;
+    // 결합 스레드가 한 번에 처리하는 요청 묶음 연결
+    private PointOperation combined;
+    // 검증 후 적용된 잔액 또는 거절 사유 (결합 스레드)
+    private long balance;
+    private PointValidationException rejection;
+
+    private boolean processed;
+    private long logPosition;
+    private long loggedMillis;
+    private UserPoint pendingResult;
+
+    private UserPoint result;
+    private RuntimeException failure;
+    private volatile boolean done;
+    private volatile Thread waiter;
+    // 히스토리 대기열에 남아 있는 동안 true - ASYNC 모드에서는 결과 전달 후에도 drainer 가 참조
+    private volatile boolean historyPending;
+
+    PointOperation(long userId, TransactionType type, long amount) {
+        reset(userId, type, amount);
+    }
+
+    // 유저 락 대기열의 stub
+    PointOperation() {
+    }
+
+    // 재사용 가능 여부 - 결과가 전달되었고 히스토리 대기열에서도 빠졌을 때
+    boolean isReusable() {
+        return done && !historyPending;
+    }
+
+    // 새 요청으로 재사용
+    PointOperation reset(long userId, TransactionType type, long amount) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.combined = null;
+        this.rejection = null;
+        this.processed = false;
+        this.logPosition = 0L;
+        this.loggedMillis = 0L;
+        this.pendingResult = null;
+        this.result = null;
+        this.failure = null;
+        this.waiter = null;
+        this.done = false;
+        return this;
+    }
+
+    @Override
+    long userId() {
+        return userId;
+    }
+
+    @Override
+    TransactionType type() {
+        return type;
+    }
+
+    @Override
+    long amount() {
+        return amount;
+    }
+
+    // 로그에 기록된 요청은 로그의 시각 - 재시작 후 로그에서 복구한 히스토리와 같은 값
+    @Override
+    long updateMillis() {
+        return logPosition > 0L ? loggedMillis : pendingResult.updateMillis();
+    }
+
+    PointOperation next() {
+        return next;
+    }
+
+    void setNext(PointOperation next) {
+        this.next = next;
+    }
+
+    PointOperation combined() {
+        return combined;
+    }
+
+    void combineWith(PointOperation next) {
+        this.combined = next;
+    }
+
+    long balance() {
+        return balance;
+    }
+
+    boolean isRejected() {
+        return rejection != null;
+    }
+
+    boolean isProcessed() {
+        return processed;
+    }
+
+    @Override
+    long logPosition() {
+        return logPosition;
+    }
+
+    // 잔액 검증 후 적용된 잔액 반환
+    long applyTo(long balance) {
+        if (type == TransactionType.CHARGE) {
+            PointValidator.validateChargeBalance(balance, amount);
+            return balance + amount;
+        }
+        PointValidator.validateSufficientBalance(balance, amount);
+        return balance - amount;
+    }
+
+    // 결합 중 검증 결과 기록 - 결과는 묶음 전체를 반영한 뒤 전달
+    void applied(long balance) {
+        this.balance = balance;
+    }
+
+    void rejected(PointValidationException e) {
+        this.rejection = e;
+    }
+
+    // write-ahead log 에 기록된 위치와 시각 - 잔액 반영 전에 기록
+    void logged(long logPosition, long loggedMillis) {
+        this.logPosition = logPosition;
+        this.loggedMillis = loggedMillis;
+    }
+
+    // 잔액 반영 후 히스토리 대기열에 적재할 결과 - 히스토리 반영 결과에 맞춰 완료
+    void prepare(UserPoint result) {
+        processed = true;
+        this.pendingResult = result;
+        this.historyPending = true;
+    }
+
+    // 결합 중 거절된 요청 완료
+    void failRejected() {
+        fail(rejection);
+    }
+
+    void fail(RuntimeException e) {
+        processed = true;
+        finish(null, e);
+    }
+
+    @Override
+    void committed(PointHistory history) {
+        finish(pendingResult, null);
+    }
+
+    @Override
+    void failed(RuntimeException e) {
+        finish(null, e);
+    }
+
+    @Override
+    void drained() {
+        historyPending = false;
+    }
+
+    private void finish(UserPoint result, RuntimeException failure) {
+        this.result = result;
+        this.failure = failure;
+        done = true;
+        Thread parked = waiter;
+        if (parked != null) {
+            LockSupport.unpark(parked);
+        }
+    }
+
+    // 결과 대기 - 예외는 요청한 스레드에서 그대로 다시 던짐, 인터럽트는 대기 후 복원
+    UserPoint await() {
+        if (!done) {
+            waiter = Thread.currentThread();
+            boolean interrupted = false;
+            while (!done) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            waiter = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 처리 한도를 넘어 거절된 요청
+ */
+public class PointOverloadedException extends RuntimeException {
+
+    public PointOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -1,90 +1,544 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointWriteAheadLog;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.Metric;
+import io.hhplus.tdd.metrics.PointMetrics;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @Service
 public class PointService {
 
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
+
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final UserPointCache userPointCache;
+    private final PointSummaryStore pointSummaryStore;
+    private final IdempotencyCache idempotencyCache;
+    private final CasPointEngine casPointEngine;
+    private final ShardedPointEngine shardedPointEngine;
+    private final PointBatchExecutor pointBatchExecutor;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointMetrics pointMetrics;
+
+    // 유저 별 락 저장소 - 사용 중인 유저의 락만 보관
+    private final UserLockRegistry userLocks = new UserLockRegistry();
+    // 충전/사용 요청 객체 재사용 - 요청 스레드는 결과를 받을 때까지 대기하므로 스레드당 하나면 충분
+    private final ThreadLocal<PointOperation> reusableOperations =
+            ThreadLocal.withInitial(() -> new PointOperation(0L, TransactionType.CHARGE, 0L));
+
+    // 포인트 조회 - 캐시에는 커밋된 잔액만 있으므로 진행 중인 쓰기를 기다리지 않고 반환
+    public UserPoint getUserPointOf(long userId) {
+        // 유저 락 대신 엔진이 잔액을 소유하는 경우 엔진에서 조회
+        PointEngine engine = enabledEngine();
+        if (engine != null) {
+            return engine.get(userId);
+        }
 
-    // 유저 별 락 저장소
-    private final ConcurrentHashMap<Long, StampedLock> userLocks = new ConcurrentHashMap<>();
+        UserPoint cached = userPointCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
 
-    // 유저별 동기화 객체 획득
-    private StampedLock getLockForUser(long userId) {
-        return userLocks.computeIfAbsent(userId, id -> new StampedLock());
+        // 캐시 미스 - 낙관적 읽기로 테이블 조회
+        UserLock userLock = userLocks.acquire(userId);
+        try {
+            return loadOptimistically(userLock);
+        } finally {
+            userLocks.release(userLock);
+        }
     }
 
-    // 포인트 조회
-    public UserPoint getUserPointOf(long userId) {
-        return userPointTable.selectById(userId);
+    // 낙관적 읽기 - 조회 중 쓰기가 있었는지 스탬프로 검증
+    private UserPoint loadOptimistically(UserLock userLock) {
+        long userId = userLock.userId();
+        StampedLock lock = userLock.lock();
+        long stamp = lock.tryOptimisticRead();
+        UserPoint loaded = selectUserPointOf(userId);
+
+        // 진행 중인 쓰기와 겹친 조회 - 캐시에 적재하지 않고 반환
+        if (stamp == 0L || lock.isWriteLocked()) {
+            return loaded;
+        }
+
+        // 조회 중 쓰기가 없었을 때만 캐시에 적재
+        long writeStamp = lock.tryConvertToWriteLock(stamp);
+        if (writeStamp != 0L) {
+            try {
+                userPointCache.put(loaded);
+                return loaded;
+            } finally {
+                lock.unlockWrite(writeStamp);
+            }
+        }
+
+        // 검증 실패 - 읽기 락으로 대체
+        stamp = lock.readLock();
+        try {
+            return getUserOf(userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 잔액 이관 - 클러스터 재분배 시 이전 담당 노드의 잔액을 유저 락 안에서 테이블/캐시에 반영 (히스토리/로그는 기록하지 않음)
+    public UserPoint importUserPoint(long userId, long point) {
+        UserLock userLock = userLocks.acquire(userId);
+        try {
+            StampedLock lock = userLock.lock();
+            long stamp = lock.writeLock();
+            try {
+                UserPoint imported = userPointTable.insertOrUpdate(userId, point);
+                userPointCache.put(imported);
+                return imported;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        } finally {
+            userLocks.release(userLock);
+        }
     }
 
-    // 히스토리 조회
+    // 히스토리 조회 - 유저별 인덱스 사용
     public List<PointHistory> getPointHistoriesOf(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryIndex.historiesOf(userId);
+    }
+
+    // 히스토리 페이지 조회 - 커서(afterId) 이후 조건에 맞는 히스토리를 최대 limit 건
+    public List<PointHistory> getPointHistoriesOf(long userId, PointHistoryQuery query) {
+        List<PointHistory> page = new ArrayList<>(Math.min(query.limit(), 128));
+        pointHistoryIndex.forEachHistoryOf(userId, query, page::add);
+        return page;
+    }
+
+    // 히스토리 스트리밍 - 목록을 만들지 않고 한 건씩 전달
+    public void streamPointHistoriesOf(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        pointHistoryIndex.forEachHistoryOf(userId, query, history -> {
+            consumer.accept(history);
+            return true;
+        });
+    }
+
+    // 포인트 집계 조회 - 히스토리를 읽지 않음
+    public PointSummary getPointSummaryOf(long userId) {
+        return pointSummaryStore.get(userId);
+    }
+
+    // 포인트 집계 정합성 검증 - 테이블 전체 조회로 다시 집계해 비교 (ASYNC 히스토리는 테이블 반영 전까지 다를 수 있음)
+    // 기동 시 로그에서 복구한 히스토리는 테이블에 없으므로 인덱스의 복구 히스토리를 더해 집계
+    // 스냅샷으로 복구한 유저는 집계에 스냅샷 이전 히스토리(로그 파일에만 남음)가 포함되어 다를 수 있음
+    public boolean isSummaryConsistentOf(long userId) {
+        PointSummary expected = PointSummary.of(userId,
+                pointHistoryIndex.withRestored(userId, pointHistoryTable.selectAllByUserId(userId)));
+        return expected.equals(pointSummaryStore.get(userId));
+    }
+
+    // 히스토리 인덱스 정합성 검증 - 테이블 전체 조회
+    public boolean isHistoryIndexConsistentOf(long userId) {
+        return pointHistoryIndex.isConsistentWith(userId, pointHistoryTable.selectAllByUserId(userId));
     }
 
     // 포인트 충전
     public UserPoint chargePointOf(long userId, long amount) {
-        StampedLock lock = getLockForUser(userId);
-        long stamp = lock.writeLock();
+        long startedAt = pointMetrics.startTimer();
+        // 충전 금액 검증
+        validateAmount(TransactionType.CHARGE, amount);
+
+        UserPoint charged = execute(operationOf(userId, TransactionType.CHARGE, amount));
+        pointMetrics.recordSince(Metric.CHARGE, startedAt);
+        return charged;
+    }
+
+    // 포인트 사용
+    public UserPoint usePointOf(long userId, long amount) {
+        long startedAt = pointMetrics.startTimer();
+        // 사용 금액 검증
+        validateAmount(TransactionType.USE, amount);
+
+        UserPoint used = execute(operationOf(userId, TransactionType.USE, amount));
+        pointMetrics.recordSince(Metric.USE, startedAt);
+        return used;
+    }
+
+    // 포인트 충전 - 같은 Idempotency-Key 의 재요청은 첫 요청의 결과 반환 (키가 null 이면 일반 충전)
+    public UserPoint chargePointOf(long userId, long amount, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return chargePointOf(userId, amount);
+        }
+        return idempotent(new IdempotencyCache.Key(userId, TransactionType.CHARGE, idempotencyKey), amount,
+                () -> chargePointOf(userId, amount));
+    }
+
+    // 포인트 사용 - 같은 Idempotency-Key 의 재요청은 첫 요청의 결과 반환 (키가 null 이면 일반 사용)
+    public UserPoint usePointOf(long userId, long amount, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return usePointOf(userId, amount);
+        }
+        return idempotent(new IdempotencyCache.Key(userId, TransactionType.USE, idempotencyKey), amount,
+                () -> usePointOf(userId, amount));
+    }
 
+    // 첫 요청만 실행하고, 진행 중이거나 완료된 같은 키의 요청은 그 결과를 기다려 반환 - 실패한 키는 제거해 재시도 허용
+    private UserPoint idempotent(IdempotencyCache.Key key, long amount, Supplier<UserPoint> task) {
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> existing = idempotencyCache.putIfAbsent(key, amount, inFlight);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
         try {
-            // 충전 금액 검증
-            PointValidator.validateChargeAmount(amount);
+            UserPoint result = task.get();
+            inFlight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            idempotencyCache.remove(key, inFlight);
+            inFlight.completeExceptionally(e);
+            throw e;
+        }
+    }
 
-            // 잔액 검증
-            UserPoint current = getUserOf(userId);
-            PointValidator.validateChargeBalance(current.point(), amount);
-            UserPoint charged = current.charge(amount);
+    // 일괄 충전/사용 - 유저별로 병렬 처리하고 항목별 결과를 요청 순서대로 반환
+    public List<PointBatchResult> applyBatch(List<PointCommand> commands) {
+        PointOperation[] operations = new PointOperation[commands.size()];
+        PointBatchResult[] results = new PointBatchResult[commands.size()];
+        Map<Long, List<PointOperation>> operationsByUser = new LinkedHashMap<>();
 
-            return updatePointBalance(charged, TransactionType.CHARGE, amount);
-        } finally {
-            lock.unlockWrite(stamp);
+        for (int i = 0; i < commands.size(); i++) {
+            PointCommand command = commands.get(i);
+            try {
+                // 충전/사용 금액 검증
+                validateAmount(command.type(), command.amount());
+                operations[i] = new PointOperation(command.userId(), command.type(), command.amount());
+                operationsByUser.computeIfAbsent(command.userId(), id -> new ArrayList<>()).add(operations[i]);
+            } catch (IllegalArgumentException e) {
+                results[i] = PointBatchResult.failure(command, e);
+            }
+        }
+
+        CompletableFuture.allOf(operationsByUser.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> submit(entry.getKey(), entry.getValue()), pointBatchExecutor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        // 반영된 요청 중 가장 뒤의 로그 위치까지 한 번에 디스크 반영
+        long lastLogPosition = 0L;
+        for (PointOperation operation : operations) {
+            if (operation != null && operation.isProcessed()) {
+                lastLogPosition = Math.max(lastLogPosition, operation.logPosition());
+            }
+        }
+        pointWriteAheadLog.sync(lastLogPosition);
+
+        for (int i = 0; i < commands.size(); i++) {
+            if (operations[i] == null) {
+                continue;
+            }
+            try {
+                results[i] = PointBatchResult.success(commands.get(i), operations[i].await());
+            } catch (RuntimeException e) {
+                results[i] = PointBatchResult.failure(commands.get(i), e);
+            }
         }
+        return List.of(results);
     }
 
-    // 포인트 사용
-    public UserPoint usePointOf(long userId, long amount) {
-        StampedLock lock = getLockForUser(userId);
-        long stamp = lock.writeLock();
+    // 거래 종류가 없는 요청(일괄 처리 항목)은 사용으로 처리하지 않고 거절
+    private void validateAmount(TransactionType type, long amount) {
+        if (type == null) {
+            throw new IllegalArgumentException("거래 종류(type)를 입력해주세요.");
+        }
+        try {
+            if (type == TransactionType.CHARGE) {
+                PointValidator.validateChargeAmount(amount);
+            } else {
+                PointValidator.validateUseAmount(amount);
+            }
+        } catch (PointValidationException e) {
+            pointMetrics.rejected(e.rule());
+            throw e;
+        }
+    }
 
+    // 포인트 조회 - 유저 락 안에서 호출
+    public UserPoint getUserOf(long userId) {
+        UserPoint cached = userPointCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        return loadUserPointOf(userId);
+    }
+
+    // 테이블 조회 후 캐시 적재 - 쓰기와 겹치지 않도록 유저 락 안에서 호출
+    private UserPoint loadUserPointOf(long userId) {
+        UserPoint current = selectUserPointOf(userId);
+        userPointCache.put(current);
+        return current;
+    }
+
+    private UserPoint selectUserPointOf(long userId) {
+        long startedAt = pointMetrics.startTimer();
+        UserPoint selected = userPointTable.selectById(userId);
+        pointMetrics.recordSince(Metric.USER_POINT_SELECT, startedAt);
+        return selected;
+    }
+
+    // 스레드별로 재사용하는 요청 - 이전 요청이 아직 히스토리 대기열에 남아 있으면(ASYNC) 새로 만듦
+    private PointOperation operationOf(long userId, TransactionType type, long amount) {
+        PointOperation reusable = reusableOperations.get();
+        if (reusable.isReusable()) {
+            return reusable.reset(userId, type, amount);
+        }
+        PointOperation created = new PointOperation(userId, type, amount);
+        reusableOperations.set(created);
+        return created;
+    }
+
+    // 응답 전 로그 디스크 반영 - 락 밖에서 대기하므로 다른 유저의 요청과 한 번의 force 로 묶임
+    private UserPoint execute(PointOperation operation) {
+        submit(operation);
+        UserPoint result = operation.await();
+        pointWriteAheadLog.sync(operation.logPosition());
+        return result;
+    }
+
+    // 같은 유저의 여러 요청을 한 번에 적재 후 결합 처리 - 일괄 처리용
+    private void submit(long userId, List<PointOperation> operations) {
+        PointEngine engine = enabledEngine();
+        if (engine != null) {
+            operations.forEach(operation -> applyWith(engine, operation));
+            return;
+        }
+
+        UserLock userLock = userLocks.acquire(userId);
         try {
-            // 사용 금액 검증
-            PointValidator.validateUseAmount(amount);
+            for (PointOperation operation : operations) {
+                userLock.enqueue(operation);
+            }
+            // 대기열은 도착 순서이므로 마지막 요청이 처리되면 앞선 요청도 모두 처리됨
+            combineUntilProcessed(userLock, operations.get(operations.size() - 1));
+        } finally {
+            userLocks.release(userLock);
+        }
+    }
 
-            // 잔액 검증
-            UserPoint current = getUserOf(userId);
-            PointValidator.validateSufficientBalance(current.point(), amount);
-            UserPoint used = current.use(amount);
+    // 요청 적재 후 락을 획득한 스레드가 대기 중인 요청을 결합 처리
+    private void submit(PointOperation operation) {
+        // 유저 락 대신 엔진으로 요청마다 반영
+        PointEngine engine = enabledEngine();
+        if (engine != null) {
+            applyWith(engine, operation);
+            return;
+        }
 
-            return updatePointBalance(used, TransactionType.USE, amount);
+        UserLock userLock = userLocks.acquire(operation.userId());
+        try {
+            userLock.enqueue(operation);
+            combineUntilProcessed(userLock, operation);
         } finally {
+            userLocks.release(userLock);
+        }
+    }
+
+    private void combineUntilProcessed(UserLock userLock, PointOperation operation) {
+        StampedLock lock = userLock.lock();
+        long waitStartedAt = pointMetrics.startTimer();
+        long stamp = lock.writeLock();
+        long acquiredAt = pointMetrics.recordSince(Metric.LOCK_WAIT, waitStartedAt);
+        // ------ ▼ 임계 구역 ▼ ------
+        try {
+            // 앞선 결합 스레드가 이미 처리했다면 결과만 받아감
+            // 다른 스레드가 적재 도중이면 자신의 요청이 아직 보이지 않을 수 있으므로 처리될 때까지 반복
+            while (!operation.isProcessed()) {
+                if (!combine(userLock)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        // ------ ▲ 임계 구역 ▲ ------
+        finally {
+            pointMetrics.recordSince(Metric.LOCK_HOLD, acquiredAt);
             lock.unlockWrite(stamp);
         }
     }
 
-    // 포인트 조회 - 읽기 lock
-    public UserPoint getUserOf(long userId) {
-        UserPoint current = userPointTable.selectById(userId);
-        return current;
+    /**
+     * 대기 중인 요청을 도착 순서대로 한 번의 잔액 조회에 적용 - 꺼낸 요청이 없으면 false
+     * - 꺼낸 요청은 combined 로 연결해 목록을 만들지 않고, 잔액/거절 사유는 요청에 기록합니다.
+     * - 적용한 요청을 순서대로 write-ahead log 에 먼저 기록하고, 기록된 요청까지의 잔액만 테이블/캐시/집계에 반영합니다.
+     *   기록에 실패한 요청부터는 잔액이 반영되지 않은 채 실패하므로, 같은 Idempotency-Key 로 재시도해도 한 번만 반영됩니다.
+     * - 결과를 전달한 요청은 요청 스레드가 바로 재사용할 수 있으므로, 전달 전에 다음 요청을 먼저 읽습니다.
+     */
+    private boolean combine(UserLock userLock) {
+        PointOperation first = userLock.poll();
+        if (first == null) {
+            return false;
+        }
+        int count = 1;
+        PointOperation last = first;
+        for (PointOperation next = userLock.poll(); next != null; next = userLock.poll()) {
+            last.combineWith(next);
+            last = next;
+            count++;
+        }
+        last.combineWith(null);
+        pointMetrics.recordValue(Metric.LOCK_COMBINED, count);
+
+        long userId = userLock.userId();
+        PointOperation undelivered = first;
+        try {
+            long balance = getUserOf(userId).point();
+            for (PointOperation operation = first; operation != null; operation = operation.combined()) {
+                try {
+                    // 잔액 검증
+                    balance = operation.applyTo(balance);
+                    operation.applied(balance);
+                } catch (PointValidationException e) {
+                    pointMetrics.rejected(e.rule());
+                    operation.rejected(e);
+                }
+            }
+
+            // 로그 기록 - 실패한 요청부터는 반영하지 않음 (이후 요청의 잔액은 실패한 요청을 포함해 계산되었으므로 함께 실패)
+            long loggedMillis = System.currentTimeMillis();
+            PointOperation unlogged = null;
+            RuntimeException logFailure = null;
+            PointOperation lastLogged = null;
+            int loggedCount = 0;
+            long charged = 0L;
+            long used = 0L;
+            for (PointOperation operation = first; operation != null; operation = operation.combined()) {
+                if (operation.isRejected()) {
+                    continue;
+                }
+                try {
+                    operation.logged(pointWriteAheadLog.append(
+                            operation.userId(), operation.amount(), operation.type(), loggedMillis), loggedMillis);
+                } catch (RuntimeException e) {
+                    unlogged = operation;
+                    logFailure = e;
+                    break;
+                }
+                lastLogged = operation;
+                loggedCount++;
+                if (operation.type() == TransactionType.CHARGE) {
+                    charged += operation.amount();
+                } else {
+                    used += operation.amount();
+                }
+            }
+
+            UserPoint updatedPoint = lastLogged == null
+                    ? null
+                    : updatePointBalance(userId, lastLogged.balance(), charged, used, loggedCount);
+
+            while (undelivered != unlogged) {
+                PointOperation operation = undelivered;
+                PointOperation next = operation.combined();
+                if (operation.isRejected()) {
+                    operation.failRejected();
+                } else {
+                    UserPoint result = operation == lastLogged
+                            ? updatedPoint
+                            : new UserPoint(userId, operation.balance(), updatedPoint.updateMillis());
+                    appendHistory(operation, result);
+                }
+                // 전달을 마친 뒤에만 다음 요청으로 이동 - 전달 중 예외가 난 요청도 아래에서 실패 처리
+                undelivered = next;
+            }
+            if (logFailure != null) {
+                throw logFailure;
+            }
+        } catch (RuntimeException e) {
+            // 결과를 전달하지 못한 요청 실패 처리 - 대기 스레드를 깨움, 로그에 기록된 순번은 히스토리 기록기에 알림
+            for (PointOperation operation = undelivered; operation != null; ) {
+                PointOperation next = operation.combined();
+                pointHistoryWriter.skip(operation.logPosition());
+                operation.fail(e);
+                operation = next;
+            }
+        }
+        return true;
+    }
+
+    // 설정된 잔액 엔진 - LOCK 모드면 null
+    private PointEngine enabledEngine() {
+        if (casPointEngine.isEnabled()) {
+            return casPointEngine;
+        }
+        return shardedPointEngine.isEnabled() ? shardedPointEngine : null;
+    }
+
+    // 엔진으로 잔액 반영 후 집계/로그/히스토리 기록 - 엔진이 같은 유저의 반영 순서대로 호출하므로 로그 순서도 반영 순서와 같음
+    private void applyWith(PointEngine engine, PointOperation operation) {
+        try {
+            engine.apply(operation, result -> {
+                boolean charge = operation.type() == TransactionType.CHARGE;
+                pointSummaryStore.add(operation.userId(), charge ? operation.amount() : 0L,
+                        charge ? 0L : operation.amount(), 1L, result.updateMillis());
+                appendLogAndHistory(operation, result);
+            });
+        } catch (PointValidationException e) {
+            pointMetrics.rejected(e.rule());
+            operation.fail(e);
+        } catch (RuntimeException e) {
+            operation.fail(e);
+        }
     }
 
-    // 포인트 사용 or 충전 시 잔액 갱신
-    public UserPoint updatePointBalance(UserPoint userPoint, TransactionType type, long transactionAmount) {
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
-        pointHistoryTable.insert(userPoint.id(), transactionAmount, type, updatedPoint.updateMillis());
+    // 포인트 사용 or 충전 시 잔액 갱신 - 결합된 요청은 최종 잔액으로 한 번에 반영하고 캐시/집계도 함께 갱신
+    private UserPoint updatePointBalance(long userId, long balance, long charged, long used, int count) {
+        long startedAt = pointMetrics.startTimer();
+        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, balance);
+        pointMetrics.recordSince(Metric.USER_POINT_UPSERT, startedAt);
+        userPointCache.put(updatedPoint);
+        pointSummaryStore.add(userId, charged, used, count, updatedPoint.updateMillis());
         return updatedPoint;
     }
 
+    // 로그 기록 후 히스토리 적재 - 히스토리 반영 결과에 맞춰 요청 완료 (적재 후에는 요청을 참조하지 않음)
+    private void appendLogAndHistory(PointOperation operation, UserPoint result) {
+        operation.logged(pointWriteAheadLog.append(
+                operation.userId(), operation.amount(), operation.type(), result.updateMillis()), result.updateMillis());
+        appendHistory(operation, result);
+    }
+
+    // 로그에 기록되고 잔액이 반영된 요청의 히스토리 적재
+    // 적재에 실패해도 잔액은 이미 반영되었으므로 요청은 성공으로 완료 (히스토리는 로그에서 복구)
+    private void appendHistory(PointOperation operation, UserPoint result) {
+        operation.prepare(result);
+        try {
+            pointHistoryWriter.append(operation);
+        } catch (RuntimeException e) {
+            log.error("히스토리 적재 실패 - 잔액은 반영됨: userId={}, logPosition={}",
+                    operation.userId(), operation.logPosition(), e);
+            pointHistoryWriter.skip(operation.logPosition());
+            operation.drained();
+            operation.committed(null);
+        }
+    }
+
 }
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 유저별 포인트 집계
+ * - totalCharged / totalUsed : 누적 충전/사용 금액
+ * - transactionCount : 충전/사용 건수
+ * - lastActivityMillis : 마지막 충전/사용 시각, 내역이 없으면 0
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long transactionCount,
+        long lastActivityMillis
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L);
+    }
+
+    // 히스토리 전체로 집계 - 정합성 검증용
+    public static PointSummary of(long userId, List<PointHistory> histories) {
+        PointSummary summary = empty(userId);
+        for (PointHistory history : histories) {
+            summary = summary.plus(history.type(), history.amount(), 1L, history.updateMillis());
+        }
+        return summary;
+    }
+
+    public PointSummary plus(TransactionType type, long amount, long count, long updateMillis) {
+        return type == TransactionType.CHARGE
+                ? plus(amount, 0L, count, updateMillis)
+                : plus(0L, amount, count, updateMillis);
+    }
+
+    public PointSummary plus(long charged, long used, long count, long updateMillis) {
+        return new PointSummary(userId, totalCharged + charged, totalUsed + used, transactionCount + count,
+                Math.max(lastActivityMillis, updateMillis));
+    }
+}
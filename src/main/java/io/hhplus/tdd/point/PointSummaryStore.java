@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 포인트 집계 저장소
+ * - 잔액 갱신과 같은 임계 구역(유저 락)에서 결합된 요청 단위로 한 번 갱신하므로, 히스토리 길이와 무관하게 조회/갱신이 O(1) 입니다.
+ * - CAS 엔진은 유저 락 없이 갱신하므로, 합산은 stripe 락 안에서 수행합니다.
+ * - 집계는 stripe 락 안에서 제자리 갱신하고 조회 시점에만 PointSummary 로 복사하므로, 갱신 시 객체를 만들지 않고 항목 간 값도 섞이지 않습니다.
+ */
+@Component
+public class PointSummaryStore {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public PointSummaryStore() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public PointSummary get(long userId) {
+        Stripe stripe = stripeOf(userId);
+        stripe.lock.lock();
+        try {
+            Totals totals = stripe.totals.get(userId);
+            return totals == null
+                    ? PointSummary.empty(userId)
+                    : new PointSummary(userId, totals.charged, totals.used, totals.count, totals.lastActivityMillis);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 충전/사용 금액 합산
+    public void add(long userId, long charged, long used, long count, long updateMillis) {
+        Stripe stripe = stripeOf(userId);
+        stripe.lock.lock();
+        try {
+            Totals totals = stripe.totals.get(userId);
+            if (totals == null) {
+                totals = new Totals();
+                stripe.totals.put(userId, totals);
+            }
+            totals.charged += charged;
+            totals.used += used;
+            totals.count += count;
+            totals.lastActivityMillis = Math.max(totals.lastActivityMillis, updateMillis);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeOf(long userId) {
+        return stripes[(Long.hashCode(userId) & 0x7fffffff) % STRIPE_COUNT];
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongKeyMap<Totals> totals = new LongKeyMap<>();
+    }
+
+    private static class Totals {
+
+        private long charged;
+        private long used;
+        private long count;
+        private long lastActivityMillis;
+    }
+}
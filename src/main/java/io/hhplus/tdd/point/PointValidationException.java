@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 검증 실패 - 실패한 검증 규칙을 함께 전달
+ * - 검증 실패는 정상적인 거절이므로 스택 트레이스를 기록하지 않습니다.
+ * - 메시지는 getMessage 를 처음 호출할 때 규칙과 값으로 만듭니다.
+ */
+public class PointValidationException extends IllegalArgumentException {
+
+    private final ValidationRule rule;
+    private final long value;
+    private String message;
+
+    // value : 메시지에 들어가는 한도 또는 현재 잔액
+    public PointValidationException(ValidationRule rule, long value) {
+        this.rule = rule;
+        this.value = value;
+    }
+
+    public ValidationRule rule() {
+        return rule;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = rule.messageOf(value);
+        }
+        return message;
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+
+/**
+ * shard 대기열이 가득 찼을 때의 동작
+ * - BLOCK : 자리가 날 때까지 요청 스레드가 대기
+ * - REJECT : 바로 PointOverloadedException 으로 거절
+ */
+public enum ShardBackpressure {
+    BLOCK, REJECT
+}
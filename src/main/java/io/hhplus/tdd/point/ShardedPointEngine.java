@@ -0,0 +1,260 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.Metric;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * shard 단일 writer 엔진 (point.engine.mode=SHARDED)
+ * - 유저를 userId % shardCount 로 나누고, shard 마다 스레드 하나가 해당 유저들의 잔액을 소유합니다. 잔액에 락이 필요 없습니다.
+ * - 요청 스레드는 충전/사용/조회 명령을 shard 의 MPSC ring buffer 에 적재하고 완료를 기다립니다.
+ * - shard 스레드는 쌓인 명령을 한 번에 꺼내 도착 순서대로 검증/반영하고, 갱신된 유저마다 최종 잔액만 UserPointTable 에 기록한 뒤 완료합니다.
+ *   반영 후 처리(applied)도 완료 직전에 shard 스레드가 도착 순서대로 호출하므로, 같은 유저의 처리 순서는 반영 순서와 같습니다.
+ * - 대기열이 가득 차면 backpressure 설정에 따라 대기(BLOCK)하거나 거절(REJECT)합니다.
+ * - shard 가 보관하는 잔액은 LRU 로 maxUsersPerShard 명까지만 유지합니다. 잔액은 배치마다 테이블에 기록되므로 제거된 유저는 테이블에서 다시 적재합니다.
+ */
+@Component
+public class ShardedPointEngine implements PointEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedPointEngine.class);
+    private static final int MAXIMUM_BATCH_SIZE = 256;
+    private static final long BLOCK_BACKOFF_NANOS = 10_000L;
+
+    private final UserPointTable userPointTable;
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final ShardBackpressure backpressure;
+    private final Shard[] shards;
+    private volatile boolean running = true;
+
+    @Autowired
+    public ShardedPointEngine(UserPointTable userPointTable, PointMetrics pointMetrics, PointProperties properties) {
+        this(userPointTable, pointMetrics, properties.engine());
+    }
+
+    public ShardedPointEngine(UserPointTable userPointTable, PointMetrics pointMetrics,
+                              PointProperties.Engine properties) {
+        this.userPointTable = userPointTable;
+        this.pointMetrics = pointMetrics;
+        this.enabled = properties.mode() == PointEngineMode.SHARDED;
+        this.backpressure = properties.backpressure();
+        int shardCount = properties.shardCount() > 0
+                ? properties.shardCount()
+                : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[enabled ? shardCount : 0];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i, properties.queueCapacity(), properties.maxUsersPerShard());
+            shards[i].thread.start();
+        }
+        if (enabled) {
+            pointMetrics.registerGauge("shard.backlog", this::backlog);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 잔액 조회 - 앞서 적재된 충전/사용이 반영된 뒤의 잔액
+    @Override
+    public UserPoint get(long userId) {
+        return submit(new Command(userId, null, null));
+    }
+
+    @Override
+    public UserPoint apply(PointOperation operation, Consumer<UserPoint> applied) {
+        return submit(new Command(operation.userId(), operation, applied));
+    }
+
+    // 모든 shard 대기열에 남은 명령 수
+    public int backlog() {
+        int backlog = 0;
+        for (Shard shard : shards) {
+            backlog += shard.queue.size();
+        }
+        return backlog;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            shard.thread.join();
+        }
+    }
+
+    private UserPoint submit(Command command) {
+        if (!running) {
+            throw new IllegalStateException("잔액 엔진이 종료되었습니다.");
+        }
+        Shard shard = shards[(int) Math.floorMod(command.userId(), (long) shards.length)];
+        while (!shard.queue.offer(command)) {
+            if (backpressure == ShardBackpressure.REJECT) {
+                throw new PointOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+        }
+        shard.wakeUp();
+        return command.await();
+    }
+
+    /**
+     * shard 하나 - 대기열과 잔액은 shard 스레드만 소유
+     * - 대기열이 비면 sleeping 을 표시한 뒤 다시 확인하고 park 하며, 생산자는 적재 후 sleeping 이면 unpark 합니다.
+     */
+    private class Shard {
+
+        private final MpscRingBuffer<Command> queue;
+        private final Thread thread;
+        private final Map<Long, UserPoint> balances;
+        private volatile boolean sleeping;
+
+        Shard(int index, int queueCapacity, int maxUsers) {
+            this.queue = new MpscRingBuffer<>(queueCapacity);
+            // 배치 하나가 갱신하는 유저 수보다 크게 두어, 아직 기록하지 않은 잔액이 제거되지 않도록 함
+            int capacity = Math.max(maxUsers, MAXIMUM_BATCH_SIZE + 1);
+            this.balances = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    return size() > capacity;
+                }
+            };
+            this.thread = new Thread(this::run, "point-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void wakeUp() {
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(MAXIMUM_BATCH_SIZE);
+            while (running || !queue.isEmpty()) {
+                for (Command command = queue.poll(); command != null; command = queue.poll()) {
+                    batch.add(command);
+                    if (batch.size() == MAXIMUM_BATCH_SIZE) {
+                        break;
+                    }
+                }
+                if (batch.isEmpty()) {
+                    sleeping = true;
+                    if (queue.isEmpty() && running) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                    continue;
+                }
+                pointMetrics.recordValue(Metric.SHARD_BATCH, batch.size());
+                process(batch);
+                batch.clear();
+            }
+        }
+
+        // 도착 순서대로 반영한 뒤 유저별 최종 잔액만 테이블에 기록하고 완료
+        private void process(List<Command> batch) {
+            Map<Long, UserPoint> updated = new LinkedHashMap<>();
+            UserPoint[] results = new UserPoint[batch.size()];
+            RuntimeException[] failures = new RuntimeException[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                Command command = batch.get(i);
+                try {
+                    UserPoint current = balanceOf(command.userId());
+                    if (command.operation() == null) {
+                        results[i] = current;
+                        continue;
+                    }
+                    long balance = command.operation().applyTo(current.point());
+                    UserPoint next = new UserPoint(command.userId(), balance, System.currentTimeMillis());
+                    balances.put(command.userId(), next);
+                    updated.put(command.userId(), next);
+                    results[i] = next;
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+
+            for (UserPoint userPoint : updated.values()) {
+                try {
+                    long startedAt = pointMetrics.startTimer();
+                    userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+                    pointMetrics.recordSince(Metric.USER_POINT_UPSERT, startedAt);
+                } catch (RuntimeException e) {
+                    // 기록 실패 - 해당 유저의 반영을 실패 처리하고 다음 명령에서 테이블 잔액을 다시 적재
+                    log.error("잔액 기록 실패: userId={}", userPoint.id(), e);
+                    balances.remove(userPoint.id());
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (batch.get(i).userId() == userPoint.id() && failures[i] == null) {
+                            failures[i] = e;
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                Command command = batch.get(i);
+                if (failures[i] == null && command.operation() != null) {
+                    try {
+                        command.applied().accept(results[i]);
+                    } catch (RuntimeException e) {
+                        failures[i] = e;
+                    }
+                }
+                if (failures[i] != null) {
+                    command.result().completeExceptionally(failures[i]);
+                } else {
+                    command.result().complete(results[i]);
+                }
+            }
+        }
+
+        private UserPoint balanceOf(long userId) {
+            UserPoint current = balances.get(userId);
+            if (current == null) {
+                current = userPointTable.selectById(userId);
+                balances.put(userId, current);
+            }
+            return current;
+        }
+    }
+
+    // operation 이 null 이면 조회
+    private record Command(long userId, PointOperation operation, Consumer<UserPoint> applied,
+                           CompletableFuture<UserPoint> result) {
+
+        Command(long userId, PointOperation operation, Consumer<UserPoint> applied) {
+            this(userId, operation, applied, new CompletableFuture<>());
+        }
+
+        UserPoint await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 token bucket
+ * - 토큰 수 대신 "다음 토큰이 채워지는 시각"(theoretical arrival time) 하나를 CAS 로 갱신합니다. (GCRA)
+ * - 요청마다 채워지는 시각이 interval 만큼 늦춰지고, 현재 시각보다 burst 개 이상 앞서 있으면 거절합니다.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong arrivalNanos;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("초당 허용 요청 수와 순간 최대 요청 수는 0 보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.arrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    // 토큰 하나 사용 - 남은 토큰이 없으면 false
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = arrivalNanos.get();
+            long next = arrival - nowNanos > 0 ? arrival : nowNanos;
+            if (next - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (arrivalNanos.compareAndSet(arrival, next + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    // 사용한 토큰 하나 반납 - 이후 단계에서 거절된 요청
+    void refund() {
+        arrivalNanos.addAndGet(-intervalNanos);
+    }
+
+    // 토큰이 가득 찼는지 - 한동안 요청이 없었음
+    boolean isFull(long nowNanos) {
+        return arrivalNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저별 동기화 객체
+ * - lock : 유저 단위 임계 구역
+ * - pending : 락 획득을 기다리는 충전/사용 요청 (도착 순서), PointOperation 을 직접 연결하는 intrusive MPSC 큐
+ * - references : 락을 사용 중인 스레드 수 (UserLockRegistry 에서만 변경)
+ * - 참조가 없어진 유저 락은 UserLockRegistry 가 다른 유저용으로 재사용하므로 userId 는 고정되지 않습니다.
+ */
+class UserLock {
+
+    private long userId;
+    private final StampedLock lock = new StampedLock();
+    private int references;
+    // 재사용 대기 목록 연결 (UserLockRegistry 에서만 사용)
+    UserLock nextFree;
+
+    // 대기열 - 적재는 head 에서(여러 스레드), 꺼내기는 tail 에서(락을 획득한 스레드 하나)
+    private final PointOperation stub = new PointOperation();
+    private final AtomicReference<PointOperation> head = new AtomicReference<>(stub);
+    private PointOperation tail = stub;
+
+    UserLock(long userId) {
+        this.userId = userId;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    StampedLock lock() {
+        return lock;
+    }
+
+    // 요청 적재 - 락 밖에서 여러 스레드가 호출
+    void enqueue(PointOperation operation) {
+        operation.setNext(null);
+        PointOperation previous = head.getAndSet(operation);
+        previous.setNext(operation);
+    }
+
+    /**
+     * 가장 먼저 적재된 요청 꺼내기 - 락을 획득한 스레드에서만 호출
+     * - 다른 스레드가 적재 도중(head 교체 후 연결 전)이면 뒤의 요청이 보이지 않아 null 을 반환할 수 있으므로,
+     *   자신의 요청이 처리될 때까지 다시 호출합니다.
+     */
+    PointOperation poll() {
+        PointOperation first = tail;
+        PointOperation next = first.next();
+        if (first == stub) {
+            if (next == null) {
+                return null;
+            }
+            tail = next;
+            first = next;
+            next = next.next();
+        }
+        if (next != null) {
+            tail = next;
+            return first;
+        }
+        if (first != head.get()) {
+            return null;
+        }
+        // 마지막 요청 - stub 을 다시 적재해 꺼낸 요청과 큐의 연결을 끊음
+        enqueue(stub);
+        next = first.next();
+        if (next != null) {
+            tail = next;
+            return first;
+        }
+        return null;
+    }
+
+    // 재사용 - 참조와 대기열이 모두 비어 있을 때만 호출
+    void reset(long userId) {
+        this.userId = userId;
+    }
+
+    void retain() {
+        references++;
+    }
+
+    int release() {
+        return --references;
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 참조 횟수 기반 유저 락 저장소
+ * - 락을 획득하거나 기다리는 스레드가 있는 동안에만 유저 락을 보관하고, 마지막 스레드가 반납하면 제거합니다.
+ * - 참조 횟수는 stripe 락 안에서만 변경하므로, 제거된 락을 다른 스레드가 새로 획득하는 일은 없습니다.
+ * - userId 를 long 그대로 보관하고(LongKeyMap), 제거된 유저 락은 stripe 별로 일정 개수까지 재사용하므로
+ *   획득/반납 시 객체를 만들지 않습니다.
+ */
+class UserLockRegistry {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int MAX_FREE_PER_STRIPE = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    UserLockRegistry() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // 유저 락 획득 - 반드시 release 와 짝을 이뤄 호출
+    UserLock acquire(long userId) {
+        Stripe stripe = stripeOf(userId);
+        stripe.lock.lock();
+        try {
+            UserLock acquired = stripe.locks.get(userId);
+            if (acquired == null) {
+                acquired = stripe.take(userId);
+                stripe.locks.put(userId, acquired);
+            }
+            acquired.retain();
+            return acquired;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 유저 락 반납 - 참조가 없으면 저장소에서 제거하고 재사용 목록으로 돌려놓음
+    void release(UserLock userLock) {
+        Stripe stripe = stripeOf(userLock.userId());
+        stripe.lock.lock();
+        try {
+            if (userLock.release() == 0) {
+                stripe.locks.remove(userLock.userId());
+                stripe.recycle(userLock);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 현재 보관 중인 유저 락 수
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.locks.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(long userId) {
+        return stripes[(Long.hashCode(userId) & 0x7fffffff) % STRIPE_COUNT];
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongKeyMap<UserLock> locks = new LongKeyMap<>();
+        private UserLock free;
+        private int freeCount;
+
+        UserLock take(long userId) {
+            if (free == null) {
+                return new UserLock(userId);
+            }
+            UserLock reused = free;
+            free = reused.nextFree;
+            reused.nextFree = null;
+            freeCount--;
+            reused.reset(userId);
+            return reused;
+        }
+
+        void recycle(UserLock userLock) {
+            if (freeCount < MAX_FREE_PER_STRIPE) {
+                userLock.nextFree = free;
+                free = userLock;
+                freeCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 포인트 잔액 캐시 (UserPointTable 앞단)
+ * - 잔액은 PointService 의 충전/사용으로만 변경되므로, 잔액 갱신과 같은 임계 구역에서 캐시도 함께 갱신합니다.
+ * - 세그먼트별 LRU 로 크기를 제한하고 hit/miss/eviction 횟수를 집계해 PointMetrics gauge 로 노출합니다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Autowired
+    public UserPointCache(PointProperties properties, PointMetrics pointMetrics) {
+        this(properties.cache().maximumSize(), pointMetrics);
+    }
+
+    public UserPointCache(int maximumSize) {
+        this(maximumSize, new PointMetrics(false));
+    }
+
+    public UserPointCache(int maximumSize, PointMetrics pointMetrics) {
+        int segmentCapacity = Math.max(1, maximumSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        pointMetrics.registerGauge("cache.hits", hitCount::sum);
+        pointMetrics.registerGauge("cache.misses", missCount::sum);
+        pointMetrics.registerGauge("cache.evictions", evictionCount::sum);
+        pointMetrics.registerGauge("cache.size", this::size);
+    }
+
+    // 캐시 조회 - 없으면 null
+    public UserPoint get(long userId) {
+        UserPoint cached = segmentOf(userId).get(userId);
+        if (cached == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return cached;
+    }
+
+    // 잔액 갱신 - 유저 락 안에서 호출
+    public void put(UserPoint userPoint) {
+        segmentOf(userPoint.id()).put(userPoint);
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long userId) {
+        return segments[(Long.hashCode(userId) & 0x7fffffff) % SEGMENT_COUNT];
+    }
+
+    /**
+     * 접근 순서 LRU 세그먼트
+     * - userId 는 LongKeyMap 에 long 그대로 보관하고, 항목은 접근 순서 이중 연결 리스트로 관리합니다.
+     * - 가득 찬 뒤에는 제거된 항목을 새 항목으로 재사용하므로 조회/갱신 시 객체를 만들지 않습니다.
+     */
+    private class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final LongKeyMap<Node> entries;
+        // eldest : 가장 오래 접근하지 않은 항목, newest : 가장 최근 접근한 항목
+        private Node eldest;
+        private Node newest;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LongKeyMap<>(Math.min(capacity, 1024));
+        }
+
+        UserPoint get(long userId) {
+            lock.lock();
+            try {
+                Node node = entries.get(userId);
+                if (node == null) {
+                    return null;
+                }
+                moveToNewest(node);
+                return node.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(UserPoint userPoint) {
+            lock.lock();
+            try {
+                Node node = entries.get(userPoint.id());
+                if (node != null) {
+                    node.value = userPoint;
+                    moveToNewest(node);
+                    return;
+                }
+                if (entries.size() < capacity) {
+                    node = new Node();
+                } else {
+                    // 가장 오래된 항목을 제거하고 재사용
+                    node = eldest;
+                    unlink(node);
+                    entries.remove(node.userId);
+                    evictionCount.increment();
+                }
+                node.userId = userPoint.id();
+                node.value = userPoint;
+                entries.put(node.userId, node);
+                linkNewest(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void moveToNewest(Node node) {
+            if (node != newest) {
+                unlink(node);
+                linkNewest(node);
+            }
+        }
+
+        private void linkNewest(Node node) {
+            node.older = newest;
+            node.newer = null;
+            if (newest == null) {
+                eldest = node;
+            } else {
+                newest.newer = node;
+            }
+            newest = node;
+        }
+
+        private void unlink(Node node) {
+            if (node.older == null) {
+                eldest = node.newer;
+            } else {
+                node.older.newer = node.newer;
+            }
+            if (node.newer == null) {
+                newest = node.older;
+            } else {
+                node.newer.older = node.older;
+            }
+            node.older = null;
+            node.newer = null;
+        }
+    }
+
+    private static class Node {
+
+        private long userId;
+        private UserPoint value;
+        private Node older;
+        private Node newer;
+    }
+}
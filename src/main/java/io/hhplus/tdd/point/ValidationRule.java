@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+/**
+ * PointValidator 검증 규칙
+ * - 검증 실패 시 PointValidationException 에 담겨 규칙별 거절 건수 집계에 사용됩니다.
+ * - 실패 메시지는 규칙과 값(한도 또는 현재 잔액) 하나로 만들 수 있으므로, 메시지가 필요할 때만 만듭니다.
+ */
+public enum ValidationRule {
+    CHARGE_MINIMUM_AMOUNT {
+        @Override
+        String messageOf(long minimumAmount) {
+            return minimumAmount + " 포인트 이상 충전해주세요.";
+        }
+    },
+    CHARGE_MAXIMUM_AMOUNT {
+        @Override
+        String messageOf(long maximumAmount) {
+            return "1회 최대 충전금액은 " + maximumAmount + "입니다.";
+        }
+    },
+    USE_MINIMUM_AMOUNT {
+        @Override
+        String messageOf(long minimumAmount) {
+            return minimumAmount + " 포인트 이상 사용해주세요.";
+        }
+    },
+    USE_MAXIMUM_AMOUNT {
+        @Override
+        String messageOf(long maximumAmount) {
+            return "1회 최대 사용금액은 " + maximumAmount + "입니다.";
+        }
+    },
+    MAXIMUM_BALANCE {
+        @Override
+        String messageOf(long maximumBalance) {
+            return "보유 가능한 최대 포인트를 초과했습니다. (최대 보유 가능 포인트: " + maximumBalance + ")";
+        }
+    },
+    SUFFICIENT_BALANCE {
+        @Override
+        String messageOf(long currentPoint) {
+            return "사용할 포인트가 부족합니다. (현재 보유 포인트: " + currentPoint + ")";
+        }
+    };
+
+    abstract String messageOf(long value);
+}
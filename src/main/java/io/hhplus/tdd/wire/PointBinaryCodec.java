@@ -0,0 +1,187 @@
+package io.hhplus.tdd.wire;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 API 바이너리 인코딩 (little-endian 고정 길이)
+ * - UserPoint : id(8) point(8) updateMillis(8) = 24 byte
+ * - PointHistory : id(8) userId(8) amount(8) type(1) updateMillis(8) = 33 byte
+ * - PointCommand : userId(8) type(1) amount(8) = 17 byte
+ * - PointBatchResult : userId(8) type(1) amount(8) 결과(1, 0 - 성공 / 1 - 실패) + 성공 시 UserPoint, 실패 시 ErrorResponse
+ * - ErrorResponse : code, message - 문자열은 UTF-8 byte 수(4) + UTF-8
+ * - 금액 : amount(8)
+ * - 목록 : 건수(4) + 항목, type 은 TransactionType 의 순서(CHARGE - 0, USE - 1), 종류가 없는 일괄 처리 결과는 -1
+ * - 스레드별 버퍼에 인코딩해 스트림에 바로 쓰므로, 응답마다 byte 배열이나 중간 객체를 만들지 않습니다.
+ */
+public final class PointBinaryCodec {
+
+    public static final int AMOUNT_SIZE = 8;
+    public static final int USER_POINT_SIZE = 24;
+    public static final int POINT_HISTORY_SIZE = 33;
+    public static final int POINT_COMMAND_SIZE = 17;
+    public static final int COUNT_SIZE = 4;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BATCH_RESULT_HEADER_SIZE = 18;
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte NO_TYPE = -1;
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private PointBinaryCodec() {
+    }
+
+    public static void writeUserPoint(UserPoint userPoint, OutputStream out) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        out.write(buffer, 0, putUserPoint(buffer, 0, userPoint));
+    }
+
+    public static void writeHistory(PointHistory history, OutputStream out) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        out.write(buffer, 0, putHistory(buffer, 0, history));
+    }
+
+    public static void writeHistories(List<PointHistory> histories, OutputStream out) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        int size = histories.size();
+        int position = putInt(buffer, 0, size);
+        for (int i = 0; i < size; i++) {
+            if (position + POINT_HISTORY_SIZE > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            position = putHistory(buffer, position, histories.get(i));
+        }
+        out.write(buffer, 0, position);
+    }
+
+    public static void writeBatchResults(List<PointBatchResult> results, OutputStream out) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        int size = results.size();
+        int position = putInt(buffer, 0, size);
+        for (int i = 0; i < size; i++) {
+            PointBatchResult result = results.get(i);
+            if (position + BATCH_RESULT_HEADER_SIZE + USER_POINT_SIZE > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            position = putLong(buffer, position, result.userId());
+            buffer[position++] = result.type() == null ? NO_TYPE : (byte) result.type().ordinal();
+            position = putLong(buffer, position, result.amount());
+            if (result.error() == null) {
+                buffer[position++] = SUCCESS;
+                position = putUserPoint(buffer, position, result.userPoint());
+            } else {
+                buffer[position++] = FAILURE;
+                position = putError(buffer, position, result.error(), out);
+            }
+        }
+        out.write(buffer, 0, position);
+    }
+
+    public static void writeError(ErrorResponse error, OutputStream out) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        out.write(buffer, 0, putError(buffer, 0, error, out));
+    }
+
+    public static long readAmount(InputStream in) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        readFully(in, buffer, AMOUNT_SIZE);
+        return (long) LONG.get(buffer, 0);
+    }
+
+    public static List<PointCommand> readCommands(InputStream in) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        readFully(in, buffer, COUNT_SIZE);
+        int count = (int) INT.get(buffer, 0);
+        if (count < 0) {
+            throw new IOException("잘못된 항목 수입니다: " + count);
+        }
+        // 건수만 크게 보낸 요청이 큰 목록을 할당하지 않도록 읽은 만큼만 늘림
+        List<PointCommand> commands = new ArrayList<>(Math.min(count, BUFFER_SIZE / POINT_COMMAND_SIZE));
+        int perRead = BUFFER_SIZE / POINT_COMMAND_SIZE;
+        while (commands.size() < count) {
+            int entries = Math.min(perRead, count - commands.size());
+            readFully(in, buffer, entries * POINT_COMMAND_SIZE);
+            for (int i = 0; i < entries; i++) {
+                int position = i * POINT_COMMAND_SIZE;
+                commands.add(new PointCommand(
+                        (long) LONG.get(buffer, position),
+                        typeOf(buffer[position + 8]),
+                        (long) LONG.get(buffer, position + 9)));
+            }
+        }
+        return commands;
+    }
+
+    private static int putUserPoint(byte[] buffer, int position, UserPoint userPoint) {
+        position = putLong(buffer, position, userPoint.id());
+        position = putLong(buffer, position, userPoint.point());
+        return putLong(buffer, position, userPoint.updateMillis());
+    }
+
+    private static int putHistory(byte[] buffer, int position, PointHistory history) {
+        position = putLong(buffer, position, history.id());
+        position = putLong(buffer, position, history.userId());
+        position = putLong(buffer, position, history.amount());
+        buffer[position++] = (byte) history.type().ordinal();
+        return putLong(buffer, position, history.updateMillis());
+    }
+
+    // 오류 응답 - 문자열 길이를 알 수 없으므로 버퍼를 먼저 비우고 문자열은 스트림에 바로 씀
+    private static int putError(byte[] buffer, int position, ErrorResponse error, OutputStream out)
+            throws IOException {
+        out.write(buffer, 0, position);
+        writeString(error.code(), buffer, out);
+        writeString(error.message(), buffer, out);
+        return 0;
+    }
+
+    private static void writeString(String value, byte[] buffer, OutputStream out) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        out.write(buffer, 0, putInt(buffer, 0, bytes.length));
+        out.write(bytes);
+    }
+
+    private static int putLong(byte[] buffer, int position, long value) {
+        LONG.set(buffer, position, value);
+        return position + Long.BYTES;
+    }
+
+    private static int putInt(byte[] buffer, int position, int value) {
+        INT.set(buffer, position, value);
+        return position + Integer.BYTES;
+    }
+
+    private static TransactionType typeOf(byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            throw new IOException("잘못된 트랜잭션 종류입니다: " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+
+    private static void readFully(InputStream in, byte[] buffer, int length) throws IOException {
+        if (in.readNBytes(buffer, 0, length) != length) {
+            throw new EOFException("요청 본문이 바이너리 형식보다 짧습니다.");
+        }
+    }
+}
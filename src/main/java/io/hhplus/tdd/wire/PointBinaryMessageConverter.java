@@ -0,0 +1,173 @@
+package io.hhplus.tdd.wire;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 포인트 API 바이너리 메시지 컨버터 (application/x-point-binary, 형식은 PointBinaryCodec 참고)
+ * - Accept / Content-Type 에 application/x-point-binary 를 지정한 요청만 처리하고, 그 외는 기존 JSON 컨버터가 처리합니다.
+ * - 응답 : UserPoint, PointHistory, List<PointHistory>, List<PointBatchResult>, ErrorResponse
+ * - 요청 : 충전/사용 금액(long), 일괄 처리 List<PointCommand>
+ * - 고정 길이 응답은 Content-Length 를 미리 계산하고, 본문은 응답 스트림에 바로 씁니다.
+ */
+public class PointBinaryMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-point-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public PointBinaryMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return bodyOf(clazz) != null;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        Body body = bodyOf(type);
+        return body != null && body.readable && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return canRead((Type) clazz, null, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        Body body = bodyOf(type != null ? type : clazz);
+        return body != null && !body.readable && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return canWrite(null, clazz, mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(bodyOf(type), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(bodyOf(clazz), inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Body body = bodyOf(type);
+        if (body == null) {
+            // 선언 타입을 알 수 없으면 값의 타입으로 판단
+            body = bodyOf(value.getClass());
+        }
+        if (body == null) {
+            throw new HttpMessageNotWritableException("바이너리로 쓸 수 없는 응답입니다: " + type);
+        }
+        OutputStream out = outputMessage.getBody();
+        switch (body) {
+            case USER_POINT -> PointBinaryCodec.writeUserPoint((UserPoint) value, out);
+            case HISTORY -> PointBinaryCodec.writeHistory((PointHistory) value, out);
+            case HISTORIES -> PointBinaryCodec.writeHistories((List<PointHistory>) value, out);
+            case BATCH_RESULTS -> PointBinaryCodec.writeBatchResults((List<PointBatchResult>) value, out);
+            case ERROR -> PointBinaryCodec.writeError((ErrorResponse) value, out);
+            default -> throw new HttpMessageNotWritableException("바이너리로 쓸 수 없는 응답입니다: " + type);
+        }
+    }
+
+    // 고정 길이 응답의 본문 크기 - 오류 문자열을 포함하는 응답은 미리 계산하지 않음
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        if (value instanceof UserPoint) {
+            return (long) PointBinaryCodec.USER_POINT_SIZE;
+        }
+        if (value instanceof PointHistory) {
+            return (long) PointBinaryCodec.POINT_HISTORY_SIZE;
+        }
+        if (value instanceof List<?> list && (list.isEmpty() || list.get(0) instanceof PointHistory)) {
+            return (long) PointBinaryCodec.COUNT_SIZE + (long) PointBinaryCodec.POINT_HISTORY_SIZE * list.size();
+        }
+        return null;
+    }
+
+    private Object read(Body body, HttpInputMessage inputMessage) throws IOException {
+        if (body == null || !body.readable) {
+            throw new HttpMessageNotReadableException("바이너리로 읽을 수 없는 요청입니다.", inputMessage);
+        }
+        try {
+            return switch (body) {
+                case AMOUNT -> PointBinaryCodec.readAmount(inputMessage.getBody());
+                case COMMANDS -> PointBinaryCodec.readCommands(inputMessage.getBody());
+                default -> throw new IllegalStateException(body.name());
+            };
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    // 타입별 본문 형식 - 목록은 원소 타입으로 구분
+    private static Body bodyOf(Type type) {
+        if (type == long.class || type == Long.class) {
+            return Body.AMOUNT;
+        }
+        if (type == UserPoint.class) {
+            return Body.USER_POINT;
+        }
+        if (type == PointHistory.class) {
+            return Body.HISTORY;
+        }
+        if (type == ErrorResponse.class) {
+            return Body.ERROR;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            if (element == PointHistory.class) {
+                return Body.HISTORIES;
+            }
+            if (element == PointBatchResult.class) {
+                return Body.BATCH_RESULTS;
+            }
+            if (element == PointCommand.class) {
+                return Body.COMMANDS;
+            }
+        }
+        return null;
+    }
+
+    private enum Body {
+        AMOUNT(true),
+        COMMANDS(true),
+        USER_POINT(false),
+        HISTORY(false),
+        HISTORIES(false),
+        BATCH_RESULTS(false),
+        ERROR(false);
+
+        private final boolean readable;
+
+        Body(boolean readable) {
+            this.readable = readable;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.wire;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 포인트 API 메시지 컨버터 등록
+ * - 바이너리 컨버터를 기본 컨버터 뒤에 추가하므로, Accept 를 지정하지 않거나 JSON 을 요청한 클라이언트는 지금처럼 JSON 으로 응답받습니다.
+ */
+@Configuration
+public class PointWireConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PointBinaryMessageConverter());
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterHandoffTest {
+
+    private static final String NODE_A = "http://localhost:8081";
+    private static final String NODE_B = "http://localhost:8082";
+    private static final String NODE_C = "http://localhost:8083";
+    private final Long USER_ID = 1L;
+
+    // 노드 주소별 노드 - 노드 간 HTTP 호출 대신 이관 요청을 바로 전달
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void 멤버가_연속으로_바뀌어도_잔액을_가진_노드까지_따라가_이관() {
+        //given - epoch 0 에서 A 가 담당하며 충전
+        Node a = node(NODE_A, List.of(NODE_A));
+        Node b = node(NODE_B, List.of(NODE_A));
+        Node c = node(NODE_C, List.of(NODE_A));
+        a.pointService.chargePointOf(USER_ID, 500L);
+
+        //when - B 가 담당하는 동안 요청이 없었던 유저를 C 가 넘겨받음
+        for (Node node : List.of(a, b, c)) {
+            node.membership.update(List.of(NODE_B));
+            node.membership.update(List.of(NODE_C));
+        }
+        c.clusterHandoff.importIfMoved(c.membership.topology(), USER_ID);
+
+        //then - B 는 A 에서 먼저 가져온 뒤 넘겨줌
+        assertThat(c.pointService.getUserPointOf(USER_ID).point()).isEqualTo(500L);
+        assertThat(b.pointService.getUserPointOf(USER_ID).point()).isEqualTo(500L);
+    }
+
+    @Test
+    void 담당_구간마다_한_번만_이관해_이후_반영된_잔액을_덮어쓰지_않음() {
+        //given
+        Node a = node(NODE_A, List.of(NODE_A));
+        Node b = node(NODE_B, List.of(NODE_A));
+        a.pointService.chargePointOf(USER_ID, 500L);
+        a.membership.update(List.of(NODE_B));
+        b.membership.update(List.of(NODE_B));
+        b.clusterHandoff.importIfMoved(b.membership.topology(), USER_ID);
+        b.pointService.chargePointOf(USER_ID, 100L);
+
+        //when - 같은 담당 구간의 다음 요청
+        b.clusterHandoff.importIfMoved(b.membership.topology(), USER_ID);
+
+        //then
+        assertThat(b.pointService.getUserPointOf(USER_ID).point()).isEqualTo(600L);
+    }
+
+    private Node node(String selfUrl, List<String> members) {
+        PointProperties.Cluster properties =
+                new PointProperties.Cluster(true, selfUrl, members, 128, 1_000L, "secret");
+        ClusterMembership membership = new ClusterMembership(properties);
+        ClusterClient clusterClient = new ClusterClient(properties, new ObjectMapper()) {
+            @Override
+            public UserPoint handOff(String previousOwner, long userId, long epoch) {
+                return nodes.get(previousOwner).clusterHandoff.handOff(userId, epoch);
+            }
+        };
+        Node node = new Node(membership, pointService(), clusterClient);
+        nodes.put(selfUrl, node);
+        return node;
+    }
+
+    private PointService pointService() {
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointMetrics pointMetrics = new PointMetrics(false);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(HistoryDurability.ASYNC, 100, 10, "heap"), pointMetrics);
+        PointBatchExecutor pointBatchExecutor = new PointBatchExecutor(1);
+        resources.add(pointHistoryWriter::close);
+        resources.add(pointBatchExecutor::close);
+        PointProperties.Engine lockEngine =
+                new PointProperties.Engine(PointEngineMode.LOCK, 0, 1024, ShardBackpressure.BLOCK, 100_000);
+        return new PointService(userPointTable, pointHistoryTable, pointHistoryWriter, pointHistoryIndex,
+                new UserPointCache(100), new PointSummaryStore(),
+                new IdempotencyCache(1_000, Duration.ofMinutes(1)),
+                new CasPointEngine(userPointTable, pointMetrics, lockEngine),
+                new ShardedPointEngine(userPointTable, pointMetrics, lockEngine), pointBatchExecutor,
+                new PointWriteAheadLog(new PointProperties.Wal(false, "data/wal", 1024, true)), pointMetrics);
+    }
+
+    private static class Node {
+
+        private final ClusterMembership membership;
+        private final PointService pointService;
+        private final ClusterHandoff clusterHandoff;
+
+        Node(ClusterMembership membership, PointService pointService, ClusterClient clusterClient) {
+            this.membership = membership;
+            this.pointService = pointService;
+            this.clusterHandoff = new ClusterHandoff(membership, clusterClient, pointService);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConsistentHashRingTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final List<String> MEMBERS =
+            List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+
+    @Test
+    void 유저가_노드에_고르게_배정됨() {
+        //given
+        ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, 128);
+
+        //when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        //then - 노드별 배정 수가 평균의 ±20% 이내
+        int average = USER_COUNT / MEMBERS.size();
+        assertThat(counts).containsOnlyKeys(MEMBERS);
+        assertThat(counts.values()).allSatisfy(count ->
+                assertThat(count).isBetween((int) (average * 0.8), (int) (average * 1.2)));
+    }
+
+    @Test
+    void 노드가_추가되면_새_노드로_옮겨지는_유저만_담당이_바뀜() {
+        //given
+        ConsistentHashRing before = new ConsistentHashRing(MEMBERS, 128);
+        String added = "http://localhost:8084";
+        ConsistentHashRing after = new ConsistentHashRing(
+                List.of(MEMBERS.get(0), MEMBERS.get(1), MEMBERS.get(2), added), 128);
+
+        //when
+        int moved = 0;
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            String previousOwner = before.ownerOf(userId);
+            String owner = after.ownerOf(userId);
+            if (!owner.equals(previousOwner)) {
+                //then - 담당이 바뀐 유저는 모두 새 노드로 이동
+                assertThat(owner).isEqualTo(added);
+                moved++;
+            }
+        }
+
+        //then - 약 1/4 만 이동
+        assertThat(moved).isBetween((int) (USER_COUNT * 0.15), (int) (USER_COUNT * 0.35));
+    }
+
+    @Test
+    void 멤버_순서와_무관하게_같은_노드에_배정됨() {
+        //given
+        ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, 128);
+        ConsistentHashRing reversed = new ConsistentHashRing(List.of(MEMBERS.get(2), MEMBERS.get(1), MEMBERS.get(0)), 128);
+
+        //when //then
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertThat(reversed.ownerOf(userId)).isEqualTo(ring.ownerOf(userId));
+        }
+    }
+
+    @Test
+    void 멤버가_없으면_링을_만들_수_없음() {
+        //when //then
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 128))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BalanceMapTest {
+
+    @Test
+    void 크기를_넘어_늘어나도_모든_잔액_유지() {
+        //given
+        BalanceMap balances = new BalanceMap();
+        int userCount = 100_000;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            balances.add(userId, userId);
+            balances.add(userId, -1L);
+        }
+
+        //then
+        assertThat(balances.size()).isEqualTo(userCount);
+        assertThat(balances.get(1L)).isZero();
+        assertThat(balances.get(userCount)).isEqualTo(userCount - 1L);
+        assertThat(balances.get(userCount + 1L)).isZero();
+    }
+
+    @Test
+    void 모든_항목_순회() {
+        //given
+        BalanceMap balances = new BalanceMap();
+        balances.put(0L, 10L);
+        balances.put(-5L, 20L);
+        balances.put(7L, 30L);
+
+        //when
+        Map<Long, Long> visited = new HashMap<>();
+        balances.forEach(visited::put);
+
+        //then
+        assertThat(visited).containsExactlyInAnyOrderEntriesOf(Map.of(0L, 10L, -5L, 20L, 7L, 30L));
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColumnarPointHistoryTableTest {
+
+    @Test
+    void chunk_봉인_전후_히스토리를_입력_순서대로_복원() {
+        //given
+        ColumnarPointHistoryTable table = new ColumnarPointHistoryTable();
+        int count = ColumnarHistoryStore.CHUNK_SIZE * 3 + 7;
+        List<PointHistory> expected = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < count; i++) {
+            long userId = i % 2 + 1;
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            // 시각이 앞뒤로 흔들려도 음수 차이까지 복원되어야 함
+            PointHistory history = table.insert(userId, 1_000L * i, type, 1_700_000_000_000L + (i % 5) * 1_000L - i);
+            if (userId == 1L) {
+                expected.add(history);
+            }
+        }
+
+        //then
+        assertThat(table.selectAllByUserId(1L)).containsExactlyElementsOf(expected);
+        assertThat(table.selectAllByUserId(2L)).hasSize(count - expected.size());
+        assertThat(table.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 봉인된_chunk_는_PointHistory_객체보다_작게_보관() {
+        //given
+        ColumnarPointHistoryTable table = new ColumnarPointHistoryTable();
+        int count = 100_000;
+
+        //when
+        for (int i = 0; i < count; i++) {
+            table.insert(i % 100 + 1, 1_000L, TransactionType.CHARGE, 1_700_000_000_000L + i);
+        }
+
+        //then - PointHistory 객체(약 48 byte) + 참조 대비 5배 이상 절감
+        assertThat(table.store().allocatedBytes()).isLessThan(count * 52L / 5);
+    }
+}
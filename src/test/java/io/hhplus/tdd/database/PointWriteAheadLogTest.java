@@ -0,0 +1,107 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointWriteAheadLogTest {
+
+    private final Long USER_ID = 1L;
+    private final Long UPDATE_MILLIS = 10000L;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 다시_열면_기록한_순서대로_재생() {
+        //given
+        PointWriteAheadLog wal = open(1024);
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        long position = wal.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 1);
+        wal.sync(position);
+        wal.close();
+
+        //when
+        List<PointLogRecord> replayed = replay(open(1024));
+
+        //then
+        assertThat(replayed).containsExactly(
+                new PointLogRecord(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS),
+                new PointLogRecord(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 1)
+        );
+    }
+
+    @Test
+    void 세그먼트가_가득_차면_다음_세그먼트로_넘어감() throws IOException {
+        //given
+        int recordsPerSegment = 4;
+        PointWriteAheadLog wal = open(PointWriteAheadLog.RECORD_SIZE * recordsPerSegment);
+
+        //when
+        for (long amount = 1; amount <= 10; amount++) {
+            wal.append(USER_ID, amount, TransactionType.CHARGE, UPDATE_MILLIS);
+        }
+        wal.close();
+
+        //then
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isEqualTo(3L);
+        }
+        assertThat(replay(open(PointWriteAheadLog.RECORD_SIZE * recordsPerSegment)))
+                .extracting(PointLogRecord::amount)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void 기록이_끊긴_레코드부터는_버리고_이어서_추가() throws IOException {
+        //given
+        PointWriteAheadLog wal = open(1024);
+        for (long amount = 1; amount <= 3; amount++) {
+            wal.append(USER_ID, amount, TransactionType.CHARGE, UPDATE_MILLIS);
+        }
+        wal.close();
+        corruptRecord(1);
+
+        //when
+        PointWriteAheadLog reopened = open(1024);
+        reopened.append(USER_ID, 100L, TransactionType.CHARGE, UPDATE_MILLIS);
+        reopened.close();
+
+        //then
+        assertThat(replay(open(1024)))
+                .extracting(PointLogRecord::amount)
+                .containsExactly(1L, 100L);
+    }
+
+    private PointWriteAheadLog open(int segmentSize) {
+        return new PointWriteAheadLog(new PointProperties.Wal(true, directory.toString(), segmentSize, true));
+    }
+
+    private List<PointLogRecord> replay(PointWriteAheadLog wal) {
+        List<PointLogRecord> records = new ArrayList<>();
+        wal.replay(records::add);
+        return records;
+    }
+
+    // 프로세스 종료로 일부만 기록된 레코드 재현 - crc 를 깨뜨림
+    private void corruptRecord(int index) throws IOException {
+        try (Stream<Path> segments = Files.list(directory);
+             FileChannel channel = FileChannel.open(segments.findFirst().orElseThrow(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}),
+                    (long) index * PointWriteAheadLog.RECORD_SIZE + PointWriteAheadLog.RECORD_SIZE - Integer.BYTES);
+        }
+    }
+}
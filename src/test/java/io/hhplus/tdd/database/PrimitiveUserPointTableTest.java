@@ -0,0 +1,110 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimitiveUserPointTableTest {
+
+    private final Long USER_ID = 1L;
+
+    @Test
+    void 저장한_잔액_조회_미등록_유저는_0() {
+        //given
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+
+        //when
+        UserPoint saved = table.insertOrUpdate(USER_ID, 1000L);
+        table.insertOrUpdate(USER_ID, 700L);
+
+        //then
+        assertThat(table.selectById(USER_ID))
+                .extracting("id", "point")
+                .containsExactly(USER_ID, 700L);
+        assertThat(table.selectById(USER_ID).updateMillis()).isGreaterThanOrEqualTo(saved.updateMillis());
+        assertThat(table.selectById(2L).point()).isZero();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 구간이_늘어나도_모든_유저_유지() {
+        //given
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+        int userCount = 200_000;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            table.insertOrUpdate(userId, userId * 10);
+        }
+
+        //then
+        assertThat(table.size()).isEqualTo(userCount);
+        for (long userId = 1; userId <= userCount; userId += 997) {
+            assertThat(table.selectById(userId).point()).isEqualTo(userId * 10);
+        }
+    }
+
+    @Test
+    void 일괄_복구한_잔액을_같은_갱신_시각으로_조회() {
+        //given
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+        BalanceMap balances = new BalanceMap();
+        int userCount = 10_000;
+        for (long userId = 1; userId <= userCount; userId++) {
+            balances.put(userId, userId * 10);
+        }
+
+        //when
+        table.restore(balances, 10000L);
+
+        //then
+        assertThat(table.size()).isEqualTo(userCount);
+        assertThat(table.selectById(1L)).isEqualTo(new UserPoint(1L, 10L, 10000L));
+        assertThat(table.selectById((long) userCount)).isEqualTo(new UserPoint(userCount, userCount * 10L, 10000L));
+    }
+
+    @Test
+    void 갱신과_동시에_조회해도_저장된_값만_반환() throws Exception {
+        //given
+        PrimitiveUserPointTable table = new PrimitiveUserPointTable();
+        int writerCount = 4;
+        int updateCount = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount + 1);
+        CountDownLatch latch = new CountDownLatch(writerCount);
+
+        //when
+        for (int writer = 0; writer < writerCount; writer++) {
+            long offset = (writer + 1) * 1_000_000L;
+            executor.submit(() -> {
+                try {
+                    for (long i = 1; i <= updateCount; i++) {
+                        table.insertOrUpdate(offset + i, i);
+                        table.insertOrUpdate(USER_ID, 500L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Future<?> reader = executor.submit(() -> {
+            while (latch.getCount() > 0) {
+                assertThat(table.selectById(USER_ID).point()).isIn(0L, 500L);
+            }
+        });
+        latch.await();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        reader.get();
+        assertThat(table.size()).isEqualTo(writerCount * updateCount + 1);
+        assertThat(table.selectById(4_000_000L + updateCount).point()).isEqualTo(updateCount);
+    }
+}
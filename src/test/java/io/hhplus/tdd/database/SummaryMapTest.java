@@ -0,0 +1,34 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SummaryMapTest {
+
+    @Test
+    void 크기를_넘어_늘어나도_모든_집계_유지() {
+        //given
+        SummaryMap summaries = new SummaryMap();
+        int userCount = 100_000;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            summaries.add(userId, userId, 0L, 1L, userId);
+            summaries.add(userId, 0L, 1L, 1L, userId - 1);
+        }
+
+        //then
+        Map<Long, List<Long>> visited = new HashMap<>();
+        summaries.forEach((userId, charged, used, count, lastActivityMillis) ->
+                visited.put(userId, List.of(charged, used, count, lastActivityMillis)));
+        assertThat(summaries.size()).isEqualTo(userCount);
+        assertThat(visited).hasSize(userCount);
+        assertThat(visited.get(1L)).containsExactly(1L, 1L, 2L, 1L);
+        assertThat(visited.get((long) userCount)).containsExactly((long) userCount, 1L, 2L, (long) userCount);
+    }
+}
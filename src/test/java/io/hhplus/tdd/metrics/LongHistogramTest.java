@@ -0,0 +1,56 @@
+package io.hhplus.tdd.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LongHistogramTest {
+
+    @Test
+    void 백분위_값은_상대_오차_범위_안에서_기록() {
+        //given
+        LongHistogram histogram = new LongHistogram();
+
+        //when
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        //then
+        LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(100_000L);
+        assertThat(snapshot.mean()).isCloseTo(50_000.5, within(0.01));
+        assertThat(snapshot.p50()).isBetween(50_000L, 51_600L);
+        assertThat(snapshot.p99()).isBetween(99_000L, 102_200L);
+        assertThat(snapshot.max()).isEqualTo(100_000L);
+    }
+
+    @Test
+    void 버킷_경계는_모든_범위의_값을_포함() {
+        //given
+        long[] values = {0L, 31L, 32L, 33L, 1_000L, 1_000_000_007L, Long.MAX_VALUE};
+
+        //when, then
+        for (long value : values) {
+            int index = LongHistogram.indexOf(value);
+            assertThat(LongHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LongHistogram.highestValueOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void 기록이_없으면_0() {
+        //given
+        LongHistogram histogram = new LongHistogram();
+
+        //when
+        LongHistogram.Snapshot snapshot = histogram.snapshot();
+
+        //then
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p99()).isZero();
+    }
+}
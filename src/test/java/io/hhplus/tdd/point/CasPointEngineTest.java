@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.common.PointConstants.MAXIMUM_BALANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CasPointEngineTest {
+
+    private static final long USER_ID = 1L;
+
+    @Test
+    void 동시_충전이_최대_잔고를_넘지_않고_마지막_잔액만_테이블에_기록() throws InterruptedException {
+        //given
+        UserPointTable userPointTable = new UserPointTable();
+        CasPointEngine engine = new CasPointEngine(userPointTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.CAS, 0, 1024, ShardBackpressure.BLOCK, 100_000));
+        int requestCount = 200;
+        long chargeAmount = 1000L;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, chargeAmount));
+                    succeeded.incrementAndGet();
+                } catch (PointValidationException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        engine.close();
+
+        //then
+        assertThat(succeeded.get()).isEqualTo((int) (MAXIMUM_BALANCE / chargeAmount));
+        assertThat(rejected.get()).isEqualTo(requestCount - succeeded.get());
+        assertThat(engine.get(USER_ID).point()).isEqualTo(MAXIMUM_BALANCE);
+        assertThat(userPointTable.selectById(USER_ID).point()).isEqualTo(MAXIMUM_BALANCE);
+    }
+
+    @Test
+    void 반영_후_처리는_같은_유저의_반영_순서대로_호출() throws InterruptedException {
+        //given
+        CasPointEngine engine = new CasPointEngine(new UserPointTable(), new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.CAS, 0, 1024, ShardBackpressure.BLOCK, 100_000));
+        int requestCount = 200;
+        List<Long> appliedBalances = new CopyOnWriteArrayList<>();
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 1L),
+                    applied -> appliedBalances.add(applied.point())));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        engine.close();
+
+        //then - 로그/히스토리 기록 순서가 잔액 반영 순서와 같음
+        assertThat(appliedBalances).hasSize(requestCount).isSorted();
+        assertThat(appliedBalances.get(requestCount - 1)).isEqualTo((long) requestCount);
+    }
+
+    @Test
+    void 잔고_부족_시_잔액을_바꾸지_않고_예외_처리() throws InterruptedException {
+        //given
+        CasPointEngine engine = new CasPointEngine(new UserPointTable(), new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.CAS, 0, 1024, ShardBackpressure.BLOCK, 100_000));
+        engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 500L));
+
+        //when, then
+        assertThatThrownBy(() -> engine.apply(new PointOperation(USER_ID, TransactionType.USE, 501L)))
+                .isInstanceOf(PointValidationException.class);
+        assertThat(engine.get(USER_ID).point()).isEqualTo(500L);
+        engine.close();
+    }
+
+    @Test
+    void 테이블에_기록되고_참조가_없는_셀은_제거() throws InterruptedException {
+        //given
+        UserPointTable userPointTable = new UserPointTable();
+        CasPointEngine engine = new CasPointEngine(userPointTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.CAS, 0, 1024, ShardBackpressure.BLOCK, 100_000));
+        int userCount = 10;
+        for (long userId = 1; userId <= userCount; userId++) {
+            engine.apply(new PointOperation(userId, TransactionType.CHARGE, 100L * userId));
+        }
+
+        //when
+        engine.close();
+
+        //then - 제거된 뒤에는 테이블에서 다시 적재
+        assertThat(engine.size()).isZero();
+        assertThat(engine.get(userCount).point()).isEqualTo(100L * userCount);
+        assertThat(engine.size()).isZero();
+    }
+
+    @Test
+    void 제거와_적재가_반복되어도_갱신이_유실되지_않음() throws InterruptedException {
+        //given - 바로 기록되는 테이블, 참조가 없어질 때마다 셀이 제거되고 다시 적재됨
+        Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        AtomicInteger selected = new AtomicInteger();
+        UserPointTable fastTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                selected.incrementAndGet();
+                return table.getOrDefault(id, UserPoint.empty(id));
+            }
+
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+                table.put(id, userPoint);
+                return userPoint;
+            }
+        };
+        CasPointEngine engine = new CasPointEngine(fastTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.CAS, 0, 1024, ShardBackpressure.BLOCK, 100_000));
+        int threadCount = 16;
+        int chargesPerThread = 500;
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < chargesPerThread; j++) {
+                    engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 1L));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        engine.close();
+
+        //then
+        long expected = (long) threadCount * chargesPerThread;
+        assertThat(selected.get()).isPositive();
+        assertThat(table.get(USER_ID).point()).isEqualTo(expected);
+        assertThat(engine.get(USER_ID).point()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotencyCacheTest {
+
+    private final IdempotencyCache.Key KEY = new IdempotencyCache.Key(1L, TransactionType.CHARGE, "key-1");
+
+    @Test
+    void 진행_중인_같은_키는_첫_요청의_결과를_공유() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, Duration.ofMinutes(1));
+        CompletableFuture<UserPoint> first = new CompletableFuture<>();
+
+        //when
+        CompletableFuture<UserPoint> registered = cache.putIfAbsent(KEY, 500L, first);
+        CompletableFuture<UserPoint> duplicated = cache.putIfAbsent(KEY, 500L, new CompletableFuture<>());
+
+        //then
+        assertThat(registered).isNull();
+        assertThat(duplicated).isSameAs(first);
+        assertThat(cache.hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 같은_키로_다른_금액_요청_시_예외_처리() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, Duration.ofMinutes(1));
+        cache.putIfAbsent(KEY, 500L, new CompletableFuture<>());
+
+        //when, then
+        assertThatThrownBy(() -> cache.putIfAbsent(KEY, 600L, new CompletableFuture<>()))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .hasMessage("같은 Idempotency-Key 로 다른 금액을 요청할 수 없습니다.");
+    }
+
+    @Test
+    void ttl_이_지난_키는_새_요청으로_처리() throws InterruptedException {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, Duration.ofMillis(10));
+        cache.putIfAbsent(KEY, 500L, new CompletableFuture<>());
+
+        //when
+        Thread.sleep(50);
+        CompletableFuture<UserPoint> second = new CompletableFuture<>();
+
+        //then
+        assertThat(cache.putIfAbsent(KEY, 500L, second)).isNull();
+        assertThat(cache.putIfAbsent(KEY, 500L, new CompletableFuture<>())).isSameAs(second);
+    }
+
+    @Test
+    void 최대_크기_초과_시_오래된_키부터_제거() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(16, Duration.ofMinutes(1));
+
+        //when
+        for (int i = 0; i < 16 * 10; i++) {
+            cache.putIfAbsent(new IdempotencyCache.Key(1L, TransactionType.CHARGE, "key-" + i), 500L,
+                    new CompletableFuture<>());
+        }
+
+        //then
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongKeyMapTest {
+
+    private final LongKeyMap<String> map = new LongKeyMap<>();
+
+    @Test
+    void 용량을_넘겨_저장해도_모든_값_조회() {
+        //given
+        int count = 10_000;
+
+        //when
+        for (long key = -count; key < count; key++) {
+            map.put(key, "v" + key);
+        }
+
+        //then
+        assertThat(map.size()).isEqualTo(count * 2);
+        for (long key = -count; key < count; key++) {
+            assertThat(map.get(key)).isEqualTo("v" + key);
+        }
+    }
+
+    @Test
+    void 제거한_키_뒤에_저장된_키도_계속_조회() {
+        //given
+        int count = 1_000;
+        for (long key = 0; key < count; key++) {
+            map.put(key, "v" + key);
+        }
+
+        //when - 짝수 키만 제거
+        for (long key = 0; key < count; key += 2) {
+            assertThat(map.remove(key)).isEqualTo("v" + key);
+        }
+
+        //then
+        assertThat(map.size()).isEqualTo(count / 2);
+        for (long key = 0; key < count; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : "v" + key);
+        }
+        assertThat(map.remove(0L)).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointAdmissionTest {
+
+    private final Long USER_ID = 1L;
+    private final Long OTHER_USER_ID = 2L;
+
+    @Test
+    void 유저별_순간_최대_요청_수를_넘으면_거절() {
+        //given - 초당 1건, 순간 최대 3건
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 1, 3, 0, 1, 100, 1000));
+        for (int i = 0; i < 3; i++) {
+            pointAdmission.admit(USER_ID).release();
+        }
+
+        //when //then
+        assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                .isInstanceOf(PointOverloadedException.class);
+        pointAdmission.admit(OTHER_USER_ID).release();
+    }
+
+    @Test
+    void 유저별_대기_요청_수를_넘으면_거절하고_반납하면_다시_허가() {
+        //given - 토큰은 충분, 대기 요청 2건까지
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 1_000, 1_000, 0, 1, 2, 1000));
+        List<PointAdmission.Permit> permits = new ArrayList<>();
+        permits.add(pointAdmission.admit(USER_ID));
+        permits.add(pointAdmission.admit(USER_ID));
+
+        //when //then
+        assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                .isInstanceOf(PointOverloadedException.class)
+                .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        permits.get(0).release();
+        assertThat(pointAdmission.admit(USER_ID)).isNotNull();
+    }
+
+    @Test
+    void 전체_순간_최대_요청_수를_넘으면_다른_유저도_거절() {
+        //given - 전체 초당 1건, 순간 최대 2건
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 1_000, 1_000, 1, 2, 100, 1000));
+        pointAdmission.admit(USER_ID).release();
+        pointAdmission.admit(USER_ID).release();
+
+        //when //then
+        assertThatThrownBy(() -> pointAdmission.admit(OTHER_USER_ID))
+                .isInstanceOf(PointOverloadedException.class);
+    }
+
+    @Test
+    void 대기_요청_수로_거절된_요청은_토큰을_쓰지_않음() {
+        //given - 초당 1건, 순간 최대 2건, 대기 요청 1건까지, USER_ID 는 처리 중
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 1, 2, 0, 1, 1, 1000));
+        PointAdmission.Permit held = pointAdmission.admit(USER_ID);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                    .isInstanceOf(PointOverloadedException.class);
+        }
+
+        //when
+        held.release();
+
+        //then - 남은 토큰으로 허가
+        pointAdmission.admit(USER_ID).release();
+    }
+
+    @Test
+    void 전체_한도로_거절된_요청의_유저_토큰은_반납() throws InterruptedException {
+        //given - 유저는 100초에 1건, 전체는 초당 20건, 순간 최대는 모두 1건
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 0.01, 1, 20, 1, 100, 1000));
+        pointAdmission.admit(OTHER_USER_ID).release();
+        assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                .isInstanceOf(PointOverloadedException.class);
+
+        //when - 전체 토큰만 다시 채워짐
+        Thread.sleep(100L);
+
+        //then - 거절된 요청이 쓴 유저 토큰은 반납되어 허가
+        pointAdmission.admit(USER_ID).release();
+    }
+
+    @Test
+    void 토큰은_시간이_지나면_다시_채워짐() throws InterruptedException {
+        //given - 초당 20건, 순간 최대 1건
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 20, 1, 0, 1, 100, 1000));
+        pointAdmission.admit(USER_ID).release();
+        assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                .isInstanceOf(PointOverloadedException.class);
+
+        //when
+        Thread.sleep(100L);
+
+        //then
+        pointAdmission.admit(USER_ID).release();
+    }
+
+    @Test
+    void 정리_후에도_대기_요청이_있는_유저의_한도는_유지() throws InterruptedException {
+        //given - 보관 유저 1명, 대기 요청 1건까지, USER_ID 는 처리 중
+        PointAdmission pointAdmission = admissionOf(new PointProperties.RateLimit(true, 1_000, 1_000, 0, 1, 1, 1));
+        PointAdmission.Permit held = pointAdmission.admit(USER_ID);
+        pointAdmission.admit(OTHER_USER_ID).release();
+        Thread.sleep(1_100L);
+
+        //when - 정리 주기가 지난 뒤 다른 유저 요청으로 정리 수행
+        pointAdmission.admit(OTHER_USER_ID + 1).release();
+
+        //then
+        assertThatThrownBy(() -> pointAdmission.admit(USER_ID))
+                .isInstanceOf(PointOverloadedException.class);
+        held.release();
+        pointAdmission.admit(USER_ID).release();
+    }
+
+    @Test
+    void 비활성화_시_모든_요청_허가() {
+        //given
+        PointAdmission pointAdmission = PointAdmission.disabled();
+
+        //when //then
+        for (int i = 0; i < 10_000; i++) {
+            pointAdmission.admit(USER_ID);
+        }
+    }
+
+    private PointAdmission admissionOf(PointProperties.RateLimit properties) {
+        return new PointAdmission(properties, new PointMetrics(true));
+    }
+}
@@ -0,0 +1,137 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PointAsyncServiceTest {
+
+    private final Long USER_ID = 1L;
+    private final Long UPDATE_MILLIS = 10000L;
+
+    @Mock
+    private PointService pointService;
+    private PointAsyncService pointAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        // 요청마다 새 스레드에서 실행
+        pointAsyncService = new PointAsyncService(pointService, runnable -> new Thread(runnable).start());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointAsyncService.close();
+    }
+
+    @Test
+    void 기본_실행기는_요청_스레드가_아닌_풀에서_실행() throws InterruptedException {
+        //given - 기본 설정(POOL)의 파사드, 충전은 해제될 때까지 대기
+        PointAsyncService pooledService = new PointAsyncService(pointService,
+                new PointProperties.Async(AsyncExecutorMode.POOL, 4));
+        CountDownLatch releaseCharge = new CountDownLatch(1);
+        List<Thread> executedOn = new CopyOnWriteArrayList<>();
+        given(pointService.chargePointOf(USER_ID, 100L, null)).willAnswer(invocation -> {
+            executedOn.add(Thread.currentThread());
+            releaseCharge.await();
+            return new UserPoint(USER_ID, 100L, UPDATE_MILLIS);
+        });
+
+        //when
+        CompletableFuture<UserPoint> charged = pooledService.chargePointOf(USER_ID, 100L);
+
+        //then - 호출한 스레드는 완료를 기다리지 않고 반환
+        assertThat(charged).isNotDone();
+        releaseCharge.countDown();
+        assertThat(charged.join().point()).isEqualTo(100L);
+        assertThat(executedOn).singleElement().isNotSameAs(Thread.currentThread());
+        pooledService.close();
+    }
+
+    @Test
+    void 같은_유저의_요청도_앞선_요청을_기다리지_않고_서비스로_전달() throws InterruptedException {
+        //given - 순서는 PointService 의 유저 락 대기열이 보장하므로 파사드는 직렬화하지 않음
+        CountDownLatch releaseCharge = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        given(pointService.chargePointOf(USER_ID, 100L, null)).willAnswer(invocation -> {
+            releaseCharge.await();
+            executed.add("charge");
+            return new UserPoint(USER_ID, 100L, UPDATE_MILLIS);
+        });
+        given(pointService.usePointOf(USER_ID, 50L, null)).willAnswer(invocation -> {
+            executed.add("use");
+            return new UserPoint(USER_ID, 50L, UPDATE_MILLIS);
+        });
+
+        //when
+        CompletableFuture<UserPoint> charged = pointAsyncService.chargePointOf(USER_ID, 100L);
+        CompletableFuture<UserPoint> used = pointAsyncService.usePointOf(USER_ID, 50L);
+
+        //then
+        assertThat(used.join().point()).isEqualTo(50L);
+        assertThat(charged).isNotDone();
+        releaseCharge.countDown();
+        assertThat(charged.join().point()).isEqualTo(100L);
+        assertThat(executed).containsExactly("use", "charge");
+    }
+
+    @Test
+    void 앞선_요청이_실패해도_다음_요청_실행() {
+        //given
+        given(pointService.usePointOf(USER_ID, 50L, null))
+                .willThrow(new IllegalArgumentException("사용할 포인트가 부족합니다. (현재 보유 포인트: 0)"));
+        given(pointService.chargePointOf(USER_ID, 100L, null))
+                .willReturn(new UserPoint(USER_ID, 100L, UPDATE_MILLIS));
+
+        //when
+        CompletableFuture<UserPoint> used = pointAsyncService.usePointOf(USER_ID, 50L);
+        CompletableFuture<UserPoint> charged = pointAsyncService.chargePointOf(USER_ID, 100L);
+
+        //then
+        assertThatThrownBy(used::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용할 포인트가 부족합니다.");
+        assertThat(charged.join().point()).isEqualTo(100L);
+    }
+
+    @Test
+    void 일괄_처리는_항목마다_허가받고_한_항목이라도_거절되면_전체_거절() {
+        //given - 유저당 대기 요청 2건까지 허가
+        PointAdmission pointAdmission = new PointAdmission(
+                new PointProperties.RateLimit(true, 1_000, 1_000, 0, 1, 2, 1000), new PointMetrics(false));
+        PointAsyncService admittedService = new PointAsyncService(pointService, Runnable::run, pointAdmission);
+        List<PointCommand> commands = List.of(
+                new PointCommand(2L, TransactionType.CHARGE, 100L),
+                new PointCommand(USER_ID, TransactionType.CHARGE, 100L),
+                new PointCommand(USER_ID, TransactionType.USE, 50L),
+                new PointCommand(USER_ID, TransactionType.USE, 10L));
+
+        //when, then - 서비스로 넘기지 않고 거절
+        assertThatThrownBy(() -> admittedService.applyBatch(commands))
+                .isInstanceOf(PointOverloadedException.class);
+        verify(pointService, never()).applyBatch(anyList());
+
+        //then - 거절 전에 받은 허가는 반납되어 다시 허가됨
+        pointAdmission.admit(USER_ID);
+        pointAdmission.admit(USER_ID);
+        pointAdmission.admit(2L);
+    }
+}
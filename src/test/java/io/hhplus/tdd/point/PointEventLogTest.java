@@ -0,0 +1,116 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointEventLogTest {
+
+    private static final int CAPACITY = 16;
+    private final PointEventLog pointEventLog =
+            new PointEventLog(new PointProperties.Events(true, CAPACITY, 2, 15_000), new PointMetrics(false));
+
+    @Test
+    void 구독_이후_발행된_이벤트를_순서대로_전달() {
+        //given
+        publish(1, 3);
+        PointEventSubscription subscription = pointEventLog.subscribe(null);
+        publish(4, 6);
+
+        //when
+        List<PointHistory> events = new ArrayList<>();
+        subscription.poll(events::add, 100);
+
+        //then
+        assertThat(events).extracting(PointHistory::id).containsExactly(4L, 5L, 6L);
+        assertThat(subscription.takeMissed()).isFalse();
+    }
+
+    @Test
+    void 지정한_id_이후의_이벤트부터_이어서_구독() {
+        //given
+        publish(1, 10);
+
+        //when
+        PointEventSubscription subscription = pointEventLog.subscribe(7L);
+        List<PointHistory> events = new ArrayList<>();
+        subscription.poll(events::add, 100);
+
+        //then
+        assertThat(events).extracting(PointHistory::id).containsExactly(8L, 9L, 10L);
+        assertThat(subscription.takeMissed()).isFalse();
+    }
+
+    @Test
+    void 느린_구독자는_발행을_막지_않고_놓친_구간을_알림() {
+        //given
+        PointEventSubscription subscription = pointEventLog.subscribe(0L);
+
+        //when - ring buffer 크기보다 많이 발행
+        publish(1, CAPACITY * 3);
+        List<PointHistory> events = new ArrayList<>();
+        subscription.poll(events::add, 100);
+
+        //then
+        assertThat(events).isEmpty();
+        assertThat(subscription.takeMissed()).isTrue();
+        // 남아 있는 가장 오래된 이벤트부터 다시 전달
+        subscription.poll(events::add, 100);
+        assertThat(events).extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(CAPACITY * 2 + 1, CAPACITY * 3).boxed().toList());
+    }
+
+    @Test
+    void 이미_덮어쓴_id_이후부터_구독하면_놓친_구간을_알림() {
+        //given
+        publish(1, CAPACITY * 2);
+
+        //when
+        PointEventSubscription subscription = pointEventLog.subscribe(3L);
+
+        //then
+        assertThat(subscription.takeMissed()).isTrue();
+        assertThat(subscription.lastId()).isEqualTo(3L);
+    }
+
+    @Test
+    void 보충_조회로_전달한_이벤트는_다시_전달하지_않음() {
+        //given
+        PointEventSubscription subscription = pointEventLog.subscribe(0L);
+        publish(1, 5);
+
+        //when
+        subscription.skipThrough(3L);
+        List<PointHistory> events = new ArrayList<>();
+        subscription.poll(events::add, 100);
+
+        //then
+        assertThat(events).extracting(PointHistory::id).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void 최대_구독자_수를_넘으면_거절() {
+        //given
+        pointEventLog.subscribe(null);
+        PointEventSubscription second = pointEventLog.subscribe(null);
+
+        //when //then
+        assertThatThrownBy(() -> pointEventLog.subscribe(null))
+                .isInstanceOf(PointOverloadedException.class);
+        second.close();
+        assertThat(pointEventLog.subscribe(null)).isNotNull();
+    }
+
+    private void publish(long fromId, long toId) {
+        for (long id = fromId; id <= toId; id++) {
+            pointEventLog.publish(new PointHistory(id, id % 3, 100L, TransactionType.CHARGE, id));
+        }
+    }
+}
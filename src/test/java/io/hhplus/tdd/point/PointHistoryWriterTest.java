@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PointHistoryWriterTest {
+
+    private final Long USER_ID = 1L;
+    private final Long UPDATE_MILLIS = 10000L;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final PointMetrics pointMetrics = new PointMetrics(true);
+    private PointHistoryWriter pointHistoryWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryWriter.close();
+    }
+
+    @Test
+    void SYNC_모드는_테이블_반영_후_완료() {
+        //given
+        PointHistory inserted = new PointHistory(1L, USER_ID, 100L, TransactionType.CHARGE, UPDATE_MILLIS);
+        given(pointHistoryTable.insert(USER_ID, 100L, TransactionType.CHARGE, UPDATE_MILLIS)).willReturn(inserted);
+        pointHistoryWriter = writerOf(HistoryDurability.SYNC);
+
+        //when
+        PointHistory result = pointHistoryWriter.append(USER_ID, 100L, TransactionType.CHARGE, UPDATE_MILLIS).join();
+
+        //then
+        assertThat(result).isEqualTo(inserted);
+    }
+
+    @Test
+    void ASYNC_모드는_적재_즉시_반환하고_백그라운드에서_반영() throws InterruptedException {
+        //given
+        CountDownLatch blocked = new CountDownLatch(1);
+        given(pointHistoryTable.insert(USER_ID, 100L, TransactionType.USE, UPDATE_MILLIS)).willAnswer(invocation -> {
+            blocked.await();
+            return new PointHistory(1L, USER_ID, 100L, TransactionType.USE, UPDATE_MILLIS);
+        });
+        pointHistoryWriter = writerOf(HistoryDurability.ASYNC);
+
+        //when
+        CompletableFuture<PointHistory> first = pointHistoryWriter.append(USER_ID, 100L, TransactionType.USE, UPDATE_MILLIS);
+        pointHistoryWriter.append(USER_ID, 100L, TransactionType.USE, UPDATE_MILLIS);
+
+        //then
+        assertThat(first).isDone();
+        blocked.countDown();
+        verify(pointHistoryTable, timeout(1000).times(2)).insert(USER_ID, 100L, TransactionType.USE, UPDATE_MILLIS);
+    }
+
+    @Test
+    void 종료_시_남은_대기열_모두_반영() throws InterruptedException {
+        //given
+        given(pointHistoryTable.insert(USER_ID, 10L, TransactionType.CHARGE, UPDATE_MILLIS))
+                .willReturn(new PointHistory(1L, USER_ID, 10L, TransactionType.CHARGE, UPDATE_MILLIS));
+        pointHistoryWriter = writerOf(HistoryDurability.ASYNC);
+        for (int i = 0; i < 20; i++) {
+            pointHistoryWriter.append(USER_ID, 10L, TransactionType.CHARGE, UPDATE_MILLIS);
+        }
+
+        //when
+        pointHistoryWriter.close();
+
+        //then
+        assertThat(pointHistoryWriter.backlog()).isZero();
+        verify(pointHistoryTable, timeout(1000).times(20)).insert(USER_ID, 10L, TransactionType.CHARGE, UPDATE_MILLIS);
+    }
+
+    @Test
+    void 로그에_기록된_히스토리는_로그_순번을_id_로_순번_순서대로_반영() {
+        //given - 테이블은 반영 순서대로 자체 id 발급
+        AtomicLong tableId = new AtomicLong();
+        given(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).willAnswer(invocation ->
+                new PointHistory(tableId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+        pointHistoryWriter = writerOf(HistoryDurability.SYNC);
+        PointOperation second = loggedOperation(2L, 200L);
+        PointOperation first = loggedOperation(1L, 100L);
+        PointOperation fourth = loggedOperation(4L, 400L);
+
+        //when - 2번이 먼저 적재되고, 3번은 적재되지 못함
+        pointHistoryWriter.append(second);
+        pointHistoryWriter.append(first);
+        first.await();
+        second.await();
+        pointHistoryWriter.append(fourth);
+        pointHistoryWriter.skip(3L);
+        fourth.await();
+
+        //then
+        assertThat(pointHistoryIndex.historiesOf(USER_ID))
+                .extracting(PointHistory::id, PointHistory::amount)
+                .containsExactly(tuple(1L, 100L), tuple(2L, 200L), tuple(4L, 400L));
+    }
+
+    private PointOperation loggedOperation(long logPosition, long amount) {
+        PointOperation operation = new PointOperation(USER_ID, TransactionType.CHARGE, amount);
+        operation.logged(logPosition, UPDATE_MILLIS);
+        operation.prepare(new UserPoint(USER_ID, amount, UPDATE_MILLIS));
+        return operation;
+    }
+
+    private PointHistoryWriter writerOf(HistoryDurability durability) {
+        return new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(durability, 100, 10, "heap"), pointMetrics);
+    }
+}
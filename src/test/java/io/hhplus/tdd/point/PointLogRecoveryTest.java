@@ -0,0 +1,187 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.BalanceMap;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointSnapshotter;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.SummaryMap;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class PointLogRecoveryTest {
+
+    private final Long USER_ID = 1L;
+    private final Long UPDATE_MILLIS = 10000L;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 로그를_재생해_잔액과_히스토리_복구() {
+        //given
+        PointWriteAheadLog wal = open();
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        wal.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 1);
+        wal.append(2L, 500L, TransactionType.CHARGE, UPDATE_MILLIS + 2);
+        wal.close();
+
+        UserPointTable userPointTable = new PrimitiveUserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointWriteAheadLog reopened = open();
+        PointLogRecovery recovery = new PointLogRecovery(reopened, snapshotterOf(reopened, false),
+                userPointTable, pointHistoryIndex, new PointSummaryStore(), new UserPointCache(100));
+
+        //when
+        long recovered = recovery.recover();
+
+        //then
+        assertThat(recovered).isEqualTo(3L);
+        assertThat(userPointTable.selectById(USER_ID).point()).isEqualTo(700L);
+        assertThat(userPointTable.selectById(2L).point()).isEqualTo(500L);
+        assertThat(pointHistoryIndex.historiesOf(USER_ID))
+                .extracting(PointHistory::amount, PointHistory::type)
+                .containsExactly(
+                        tuple(1000L, TransactionType.CHARGE),
+                        tuple(300L, TransactionType.USE));
+        assertThat(pointHistoryIndex.isConsistentWith(USER_ID, pointHistoryTable.selectAllByUserId(USER_ID))).isTrue();
+    }
+
+    @Test
+    void 잔액_저장소가_primitive_가_아니면_복구하지_않고_예외_처리() {
+        //given
+        PointWriteAheadLog wal = open();
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        wal.close();
+
+        PointWriteAheadLog reopened = open();
+        PointLogRecovery recovery = new PointLogRecovery(reopened, snapshotterOf(reopened, false),
+                new UserPointTable(), new PointHistoryIndex(), new PointSummaryStore(), new UserPointCache(100));
+
+        //when, then
+        assertThatThrownBy(recovery::recover)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.table.store=primitive");
+    }
+
+    @Test
+    void 히스토리_id_는_로그_순번이라_재시작해도_유지() throws InterruptedException {
+        //given
+        PointWriteAheadLog wal = open();
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        wal.append(2L, 500L, TransactionType.CHARGE, UPDATE_MILLIS + 1);
+        wal.close();
+
+        UserPointCache userPointCache = new UserPointCache(100);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointWriteAheadLog reopened = open();
+        new PointLogRecovery(reopened, snapshotterOf(reopened, false), new PrimitiveUserPointTable(),
+                pointHistoryIndex, new PointSummaryStore(), userPointCache).recover();
+
+        //when - 재기동 후 로그에 기록하고 테이블에 반영된 히스토리 (테이블 id 1)
+        PointHistoryWriter writer = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(HistoryDurability.SYNC, 100, 10, "heap"), new PointMetrics(false));
+        PointOperation operation = new PointOperation(USER_ID, TransactionType.USE, 300L);
+        operation.logged(reopened.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 2), UPDATE_MILLIS + 2);
+        operation.prepare(new UserPoint(USER_ID, 700L, UPDATE_MILLIS + 2));
+        writer.append(operation);
+        operation.await();
+        writer.close();
+        reopened.close();
+
+        //then - 다시 재시작해 복구해도 같은 id
+        assertThat(userPointCache.get(USER_ID).point()).isEqualTo(1000L);
+        assertThat(pointHistoryIndex.historiesOf(USER_ID))
+                .extracting(PointHistory::id, PointHistory::amount)
+                .containsExactly(tuple(1L, 1000L), tuple(3L, 300L));
+        assertThat(pointHistoryIndex.isConsistentWith(USER_ID, pointHistoryTable.selectAllByUserId(USER_ID))).isTrue();
+
+        PointHistoryIndex restartedIndex = new PointHistoryIndex();
+        PointWriteAheadLog restartedLog = open();
+        new PointLogRecovery(restartedLog, snapshotterOf(restartedLog, false), new PrimitiveUserPointTable(),
+                restartedIndex, new PointSummaryStore(), new UserPointCache(100)).recover();
+        assertThat(restartedIndex.historiesOf(USER_ID)).isEqualTo(pointHistoryIndex.historiesOf(USER_ID));
+    }
+
+    @Test
+    void 스냅샷_이후의_로그만_재생() throws InterruptedException {
+        //given
+        PointWriteAheadLog wal = open();
+        PointSnapshotter snapshotter = snapshotterOf(wal, true);
+        snapshotter.start(new BalanceMap(), new SummaryMap(), 0L);
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        wal.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 1);
+        long cursor = snapshotter.snapshot();
+        wal.append(USER_ID, 50L, TransactionType.CHARGE, UPDATE_MILLIS + 2);
+        snapshotter.close();
+        wal.close();
+
+        UserPointTable userPointTable = new PrimitiveUserPointTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointWriteAheadLog reopened = open();
+        PointSnapshotter restarted = snapshotterOf(reopened, true);
+        PointLogRecovery recovery = new PointLogRecovery(reopened, restarted,
+                userPointTable, pointHistoryIndex, new PointSummaryStore(), new UserPointCache(100));
+
+        //when
+        long recovered = recovery.recover();
+        restarted.close();
+
+        //then
+        assertThat(cursor).isEqualTo(2L);
+        assertThat(recovered).isEqualTo(1L);
+        assertThat(userPointTable.selectById(USER_ID).point()).isEqualTo(750L);
+        // 스냅샷 이전 히스토리는 로그 파일에만 남고 조회되지 않음 - 스냅샷 이후 히스토리는 로그 순번 id 그대로
+        assertThat(pointHistoryIndex.historiesOf(USER_ID))
+                .extracting(PointHistory::id, PointHistory::amount)
+                .containsExactly(tuple(3L, 50L));
+    }
+
+    @Test
+    void 스냅샷으로_복구해도_집계는_스냅샷_이전_히스토리까지_포함() throws InterruptedException {
+        //given
+        PointWriteAheadLog wal = open();
+        PointSnapshotter snapshotter = snapshotterOf(wal, true);
+        snapshotter.start(new BalanceMap(), new SummaryMap(), 0L);
+        wal.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        wal.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS + 1);
+        snapshotter.snapshot();
+        wal.append(USER_ID, 50L, TransactionType.CHARGE, UPDATE_MILLIS + 2);
+        snapshotter.close();
+        wal.close();
+
+        PointSummaryStore pointSummaryStore = new PointSummaryStore();
+        PointWriteAheadLog reopened = open();
+        PointSnapshotter restarted = snapshotterOf(reopened, true);
+        PointLogRecovery recovery = new PointLogRecovery(reopened, restarted, new PrimitiveUserPointTable(),
+                new PointHistoryIndex(), pointSummaryStore, new UserPointCache(100));
+
+        //when
+        recovery.recover();
+        restarted.close();
+
+        //then
+        assertThat(pointSummaryStore.get(USER_ID))
+                .isEqualTo(new PointSummary(USER_ID, 1050L, 300L, 3L, UPDATE_MILLIS + 2));
+    }
+
+    private PointSnapshotter snapshotterOf(PointWriteAheadLog wal, boolean enabled) {
+        return new PointSnapshotter(wal,
+                new PointProperties.Snapshot(enabled, directory.resolve("point.snapshot").toString(), 60));
+    }
+
+    private PointWriteAheadLog open() {
+        return new PointWriteAheadLog(new PointProperties.Wal(true, directory.resolve("wal").toString(), 1024, true));
+    }
+}
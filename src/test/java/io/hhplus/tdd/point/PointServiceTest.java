@@ -1,19 +1,30 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.common.PointProperties;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointWriteAheadLog;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.Metric;
+import io.hhplus.tdd.metrics.PointMetrics;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static io.hhplus.tdd.common.PointConstants.*;
 
@@ -24,14 +35,46 @@ public class PointServiceTest {
     private final Long USER_ID = 1L;
     private final Long UPDATE_MILLIS = 10000L;
     private final Long CURRENT_POINT = 1000L;
+    private final PointProperties.Engine LOCK_ENGINE =
+            new PointProperties.Engine(PointEngineMode.LOCK, 0, 1024, ShardBackpressure.BLOCK, 100_000);
 
     @Mock
     private UserPointTable userPointTable;
     @Mock
     private PointHistoryTable pointHistoryTable;
-    @InjectMocks
+    private PointHistoryIndex pointHistoryIndex;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointBatchExecutor pointBatchExecutor;
+    private PointMetrics pointMetrics;
     private PointService pointService;
 
+    @BeforeEach
+    void setUp() {
+        // 테이블과 동일하게 id 를 발급하는 히스토리 저장
+        AtomicLong cursor = new AtomicLong(1);
+        lenient().when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenAnswer(invocation -> new PointHistory(cursor.getAndIncrement(), invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+
+        pointHistoryIndex = new PointHistoryIndex();
+        pointMetrics = new PointMetrics(true);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(HistoryDurability.SYNC, 100, 10, "heap"), pointMetrics);
+        pointBatchExecutor = new PointBatchExecutor(4);
+        pointService = new PointService(userPointTable, pointHistoryTable, pointHistoryWriter, pointHistoryIndex,
+                new UserPointCache(100), new PointSummaryStore(),
+                new IdempotencyCache(1_000, Duration.ofMinutes(1)),
+                new CasPointEngine(userPointTable, pointMetrics, LOCK_ENGINE),
+                new ShardedPointEngine(userPointTable, pointMetrics, LOCK_ENGINE), pointBatchExecutor,
+                new PointWriteAheadLog(new PointProperties.Wal(false, "data/wal", 1024, true)), pointMetrics);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointBatchExecutor.close();
+        pointHistoryWriter.close();
+    }
+
     @Nested
     class 조회 {
 
@@ -47,6 +90,64 @@ public class PointServiceTest {
             verify(userPointTable).selectById(USER_ID);
         }
 
+        @Test
+        void 두번째_조회부터_캐시에서_조회() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            pointService.getUserPointOf(USER_ID);
+
+            //when, then
+            assertThat(pointService.getUserPointOf(USER_ID))
+                    .extracting("id", "point", "updateMillis")
+                    .containsExactly(USER_ID, CURRENT_POINT, UPDATE_MILLIS);
+            verify(userPointTable).selectById(USER_ID);
+        }
+
+        @Test
+        void 충전_후_조회는_갱신된_잔액_반환() {
+            //given
+            long chargeAmount = 500L;
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + chargeAmount))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + chargeAmount, UPDATE_MILLIS));
+            pointService.getUserPointOf(USER_ID);
+
+            //when
+            pointService.chargePointOf(USER_ID, chargeAmount);
+
+            //then
+            assertThat(pointService.getUserPointOf(USER_ID).point()).isEqualTo(CURRENT_POINT + chargeAmount);
+            verify(userPointTable).selectById(USER_ID);
+        }
+
+        @Test
+        void 쓰기_진행_중에도_커밋된_잔액을_대기_없이_조회() throws InterruptedException {
+            //given
+            CountDownLatch writeStarted = new CountDownLatch(1);
+            CountDownLatch releaseWrite = new CountDownLatch(1);
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + 500L)).willAnswer(invocation -> {
+                writeStarted.countDown();
+                releaseWrite.await();
+                return new UserPoint(USER_ID, CURRENT_POINT + 500L, UPDATE_MILLIS);
+            });
+            Thread writer = new Thread(() -> pointService.chargePointOf(USER_ID, 500L));
+            writer.start();
+            writeStarted.await();
+
+            //when
+            UserPoint result = pointService.getUserPointOf(USER_ID);
+            releaseWrite.countDown();
+            writer.join();
+
+            //then
+            assertThat(result.point()).isEqualTo(CURRENT_POINT);
+            assertThat(pointService.getUserPointOf(USER_ID).point()).isEqualTo(CURRENT_POINT + 500L);
+        }
+
         @Test
         void 미등록_유저일_경우_초기_포인트() {
             //given
@@ -62,12 +163,12 @@ public class PointServiceTest {
         @Test
         void 유저_포인트_히스토리_정상조회() {
             //given
-            List<PointHistory> history = List.of(
+            List.of(
                     new PointHistory(1L, USER_ID, CURRENT_POINT, TransactionType.CHARGE, UPDATE_MILLIS),
-                    new PointHistory(2L, USER_ID, 400L, TransactionType.USE, 20000L),
-                    new PointHistory(3L, USER_ID, 200L, TransactionType.CHARGE, 22000L)
-            );
-            given(pointHistoryTable.selectAllByUserId(USER_ID)).willReturn(history);
+                    new PointHistory(2L, 2L, 300L, TransactionType.CHARGE, 15000L),
+                    new PointHistory(3L, USER_ID, 400L, TransactionType.USE, 20000L),
+                    new PointHistory(4L, USER_ID, 200L, TransactionType.CHARGE, 22000L)
+            ).forEach(pointHistoryIndex::append);
 
             //when
             List<PointHistory> result = pointService.getPointHistoriesOf(USER_ID);
@@ -77,10 +178,66 @@ public class PointServiceTest {
                     .extracting("id", "userId", "amount", "type", "updateMillis")
                     .containsExactly(
                             tuple(1L, USER_ID, CURRENT_POINT, TransactionType.CHARGE, UPDATE_MILLIS),
-                            tuple(2L, USER_ID, 400L, TransactionType.USE, 20000L),
-                            tuple(3L, USER_ID, 200L, TransactionType.CHARGE, 22000L)
+                            tuple(3L, USER_ID, 400L, TransactionType.USE, 20000L),
+                            tuple(4L, USER_ID, 200L, TransactionType.CHARGE, 22000L)
                     );
-            verify(pointHistoryTable).selectAllByUserId(USER_ID);
+            verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+        }
+
+        @Test
+        void 유저_포인트_히스토리_커서_페이지_조회() {
+            //given
+            for (long id = 1; id <= 300; id++) {
+                TransactionType type = id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+                pointHistoryIndex.append(new PointHistory(id, USER_ID, id, type, id * 1000L));
+            }
+
+            //when - 150번 이후, 200초 미만 사용 내역을 10건씩 조회
+            PointHistoryQuery first = new PointHistoryQuery(150L, 10, 0L, 200_000L, TransactionType.USE);
+            List<PointHistory> firstPage = pointService.getPointHistoriesOf(USER_ID, first);
+            long cursor = firstPage.get(firstPage.size() - 1).id();
+            PointHistoryQuery second = new PointHistoryQuery(cursor, 10, 0L, 200_000L, TransactionType.USE);
+            List<PointHistory> secondPage = pointService.getPointHistoriesOf(USER_ID, second);
+
+            //then
+            assertThat(firstPage).extracting("id")
+                    .containsExactly(153L, 156L, 159L, 162L, 165L, 168L, 171L, 174L, 177L, 180L);
+            assertThat(secondPage).extracting("id")
+                    .containsExactly(183L, 186L, 189L, 192L, 195L, 198L);
+            verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+        }
+
+        @Test
+        void 유저_포인트_히스토리_스트리밍_조회() {
+            //given
+            for (long id = 1; id <= 300; id++) {
+                pointHistoryIndex.append(new PointHistory(id, USER_ID, id, TransactionType.CHARGE, id * 1000L));
+            }
+
+            //when
+            List<Long> streamed = new ArrayList<>();
+            pointService.streamPointHistoriesOf(USER_ID, PointHistoryQuery.all(), history -> streamed.add(history.id()));
+
+            //then
+            assertThat(streamed).hasSize(300).isSorted();
+        }
+
+        @Test
+        void 히스토리_인덱스와_테이블_정합성_검증() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + 500L))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + 500L, UPDATE_MILLIS));
+            pointService.chargePointOf(USER_ID, 500L);
+            given(pointHistoryTable.selectAllByUserId(USER_ID))
+                    .willReturn(List.of(new PointHistory(1L, USER_ID, 500L, TransactionType.CHARGE, UPDATE_MILLIS)));
+
+            //when, then
+            assertThat(pointService.getPointHistoriesOf(USER_ID))
+                    .extracting("id", "amount", "type")
+                    .containsExactly(tuple(1L, 500L, TransactionType.CHARGE));
+            assertThat(pointService.isHistoryIndexConsistentOf(USER_ID)).isTrue();
         }
     }
 
@@ -259,4 +416,289 @@ public class PointServiceTest {
             verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
         }
     }
+
+    @Nested
+    class 집계 {
+
+        @Test
+        void 충전_사용_후_집계_갱신_및_테이블과_정합성_검증() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + 500L))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + 500L, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + 300L))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + 300L, UPDATE_MILLIS + 1L));
+
+            //when
+            pointService.chargePointOf(USER_ID, 500L);
+            pointService.usePointOf(USER_ID, 200L);
+            given(pointHistoryTable.selectAllByUserId(USER_ID)).willReturn(List.of(
+                    new PointHistory(1L, USER_ID, 500L, TransactionType.CHARGE, UPDATE_MILLIS),
+                    new PointHistory(2L, USER_ID, 200L, TransactionType.USE, UPDATE_MILLIS + 1L)));
+
+            //then
+            assertThat(pointService.getPointSummaryOf(USER_ID))
+                    .isEqualTo(new PointSummary(USER_ID, 500L, 200L, 2L, UPDATE_MILLIS + 1L));
+            assertThat(pointService.isSummaryConsistentOf(USER_ID)).isTrue();
+        }
+
+        @Test
+        void 실패한_요청은_집계되지_않음() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+
+            //when
+            assertThatThrownBy(() -> pointService.usePointOf(USER_ID, CURRENT_POINT + 1L))
+                    .isInstanceOf(RuntimeException.class);
+
+            //then
+            assertThat(pointService.getPointSummaryOf(USER_ID)).isEqualTo(PointSummary.empty(USER_ID));
+        }
+    }
+
+    @Nested
+    class 중복_요청 {
+
+        @Test
+        void 같은_Idempotency_Key_재요청은_테이블을_거치지_않고_첫_결과_반환() {
+            //given
+            long chargeAmount = 500L;
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + chargeAmount))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + chargeAmount, UPDATE_MILLIS));
+
+            //when
+            UserPoint first = pointService.chargePointOf(USER_ID, chargeAmount, "retry-1");
+            UserPoint retried = pointService.chargePointOf(USER_ID, chargeAmount, "retry-1");
+
+            //then
+            assertThat(retried).isEqualTo(first);
+            verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+            verify(pointHistoryTable, times(1)).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        void 실패한_요청의_키는_다시_실행() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, 0L))
+                    .willReturn(new UserPoint(USER_ID, 0L, UPDATE_MILLIS));
+            assertThatThrownBy(() -> pointService.usePointOf(USER_ID, CURRENT_POINT + 1L, "retry-2"))
+                    .isInstanceOf(RuntimeException.class);
+
+            //when, then - 같은 키라도 실패한 요청은 저장되지 않으므로 다른 금액으로 다시 요청 가능
+            assertThat(pointService.usePointOf(USER_ID, CURRENT_POINT, "retry-2").point()).isZero();
+        }
+    }
+
+    @Nested
+    class 요청_결합 {
+
+        @Test
+        void 락_대기_중인_요청은_한_번의_잔액_갱신으로_결합() throws InterruptedException {
+            //given
+            int waiterCount = 5;
+            long chargeAmount = 10L;
+            CountDownLatch firstWriteBlocked = new CountDownLatch(1);
+            CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(anyLong(), anyLong())).willAnswer(invocation -> {
+                if (firstWriteBlocked.getCount() > 0) {
+                    firstWriteBlocked.countDown();
+                    releaseFirstWrite.await();
+                }
+                return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), UPDATE_MILLIS);
+            });
+
+            //when
+            Thread first = new Thread(() -> pointService.chargePointOf(USER_ID, chargeAmount));
+            first.start();
+            firstWriteBlocked.await();
+
+            List<Thread> waiters = new ArrayList<>();
+            for (int i = 0; i < waiterCount; i++) {
+                Thread waiter = new Thread(() -> pointService.chargePointOf(USER_ID, chargeAmount));
+                waiters.add(waiter);
+                waiter.start();
+            }
+            // 모든 대기 스레드가 락 대기 상태가 될 때까지 대기
+            while (waiters.stream().anyMatch(waiter -> waiter.getState() != Thread.State.WAITING)) {
+                Thread.onSpinWait();
+            }
+            releaseFirstWrite.countDown();
+            first.join();
+            for (Thread waiter : waiters) {
+                waiter.join();
+            }
+
+            //then
+            verify(userPointTable, times(2)).insertOrUpdate(anyLong(), anyLong());
+            verify(userPointTable).insertOrUpdate(USER_ID, CURRENT_POINT + chargeAmount * (waiterCount + 1));
+            verify(userPointTable).selectById(USER_ID);
+            verify(pointHistoryTable, times(waiterCount + 1)).insert(USER_ID, chargeAmount, TransactionType.CHARGE, UPDATE_MILLIS);
+        }
+
+        @Test
+        void 로그_기록에_실패한_요청은_잔액에_반영되지_않음() throws InterruptedException {
+            //given - 첫 로그 기록은 대기 요청이 쌓인 뒤 실패하는 write-ahead log
+            int waiterCount = 5;
+            long chargeAmount = 10L;
+            CountDownLatch firstAppendBlocked = new CountDownLatch(1);
+            CountDownLatch releaseFirstAppend = new CountDownLatch(1);
+            PointWriteAheadLog failingLog = new PointWriteAheadLog(
+                    new PointProperties.Wal(false, "data/wal", 1024, true)) {
+                private final AtomicLong position = new AtomicLong();
+
+                @Override
+                public long append(long userId, long amount, TransactionType type, long updateMillis) {
+                    if (firstAppendBlocked.getCount() > 0) {
+                        firstAppendBlocked.countDown();
+                        try {
+                            releaseFirstAppend.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IllegalStateException("로그 기록 실패");
+                    }
+                    return position.incrementAndGet();
+                }
+            };
+            PointService failingService = new PointService(userPointTable, pointHistoryTable, pointHistoryWriter,
+                    pointHistoryIndex, new UserPointCache(100), new PointSummaryStore(),
+                    new IdempotencyCache(1_000, Duration.ofMinutes(1)),
+                    new CasPointEngine(userPointTable, pointMetrics, LOCK_ENGINE),
+                    new ShardedPointEngine(userPointTable, pointMetrics, LOCK_ENGINE), pointBatchExecutor,
+                    failingLog, pointMetrics);
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(anyLong(), anyLong())).willAnswer(invocation ->
+                    new UserPoint(invocation.getArgument(0), invocation.getArgument(1), UPDATE_MILLIS));
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            Runnable charge = () -> {
+                try {
+                    failingService.chargePointOf(USER_ID, chargeAmount);
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+            };
+
+            //when
+            Thread first = new Thread(charge);
+            first.start();
+            firstAppendBlocked.await();
+
+            List<Thread> waiters = new ArrayList<>();
+            for (int i = 0; i < waiterCount; i++) {
+                Thread waiter = new Thread(charge);
+                waiters.add(waiter);
+                waiter.start();
+            }
+            while (waiters.stream().anyMatch(waiter -> waiter.getState() != Thread.State.WAITING)) {
+                Thread.onSpinWait();
+            }
+            releaseFirstAppend.countDown();
+            first.join(5_000);
+            for (Thread waiter : waiters) {
+                waiter.join(5_000);
+            }
+
+            //then - 기록에 실패한 요청만 실패하고, 잔액에는 기록된 요청만 반영
+            assertThat(first.isAlive()).isFalse();
+            assertThat(waiters).noneMatch(Thread::isAlive);
+            assertThat(failures).singleElement()
+                    .satisfies(failure -> assertThat(failure)
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessage("로그 기록 실패"));
+            verify(userPointTable, never()).insertOrUpdate(USER_ID, CURRENT_POINT + chargeAmount * (waiterCount + 1));
+            verify(userPointTable).insertOrUpdate(USER_ID, CURRENT_POINT + chargeAmount * waiterCount);
+            assertThat(failingService.getUserPointOf(USER_ID).point())
+                    .isEqualTo(CURRENT_POINT + chargeAmount * waiterCount);
+        }
+    }
+
+    @Nested
+    class 일괄_처리 {
+
+        @Test
+        void 유저별로_한_번에_반영하고_항목별_결과_반환() {
+            //given
+            long otherUserId = 2L;
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+            given(userPointTable.selectById(otherUserId))
+                    .willReturn(new UserPoint(otherUserId, 0L, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(USER_ID, CURRENT_POINT + 500L - 300L))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT + 500L - 300L, UPDATE_MILLIS));
+            given(userPointTable.insertOrUpdate(otherUserId, 200L))
+                    .willReturn(new UserPoint(otherUserId, 200L, UPDATE_MILLIS));
+            List<PointCommand> commands = List.of(
+                    new PointCommand(USER_ID, TransactionType.CHARGE, 500L),
+                    new PointCommand(otherUserId, TransactionType.CHARGE, 200L),
+                    new PointCommand(USER_ID, TransactionType.USE, 300L),
+                    new PointCommand(otherUserId, TransactionType.USE, 1000L),
+                    new PointCommand(USER_ID, TransactionType.CHARGE, MAXIMUM_CHARGE_AMOUNT + 1L)
+            );
+
+            //when
+            List<PointBatchResult> results = pointService.applyBatch(commands);
+
+            //then
+            assertThat(results).extracting(result -> result.userPoint() == null ? null : result.userPoint().point())
+                    .containsExactly(CURRENT_POINT + 500L, 200L, CURRENT_POINT + 200L, null, null);
+            assertThat(results.get(3).error().message()).isEqualTo("사용할 포인트가 부족합니다. (현재 보유 포인트: 200)");
+            assertThat(results.get(4).error().message()).isEqualTo("1회 최대 충전금액은 " + MAXIMUM_CHARGE_AMOUNT + "입니다.");
+            verify(userPointTable).insertOrUpdate(USER_ID, CURRENT_POINT + 200L);
+            verify(userPointTable).insertOrUpdate(otherUserId, 200L);
+        }
+
+        @Test
+        void 거래_종류가_없는_항목은_사용으로_처리하지_않고_거절() {
+            //given
+            List<PointCommand> commands = List.of(new PointCommand(USER_ID, null, 100L));
+
+            //when
+            List<PointBatchResult> results = pointService.applyBatch(commands);
+
+            //then
+            assertThat(results).singleElement().satisfies(result -> {
+                assertThat(result.userPoint()).isNull();
+                assertThat(result.error().code()).isEqualTo("400");
+                assertThat(result.error().message()).isEqualTo("거래 종류(type)를 입력해주세요.");
+            });
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    class 지표_수집 {
+
+        @Test
+        void 검증_규칙별_거절_건수와_락_구간_시간_기록() {
+            //given
+            given(userPointTable.selectById(USER_ID))
+                    .willReturn(new UserPoint(USER_ID, CURRENT_POINT, UPDATE_MILLIS));
+
+            //when
+            assertThatThrownBy(() -> pointService.chargePointOf(USER_ID, MINIMUM_CHARGE_AMOUNT - 1L))
+                    .isInstanceOf(PointValidationException.class);
+            assertThatThrownBy(() -> pointService.usePointOf(USER_ID, CURRENT_POINT + 1L))
+                    .isInstanceOf(PointValidationException.class);
+
+            //then
+            PointMetrics.Snapshot snapshot = pointMetrics.snapshot();
+            assertThat(snapshot.rejections())
+                    .containsEntry(ValidationRule.CHARGE_MINIMUM_AMOUNT, 1L)
+                    .containsEntry(ValidationRule.SUFFICIENT_BALANCE, 1L)
+                    .containsEntry(ValidationRule.MAXIMUM_BALANCE, 0L);
+            assertThat(snapshot.histograms().get(Metric.LOCK_WAIT.key()).values().count()).isEqualTo(1L);
+            assertThat(snapshot.histograms().get(Metric.LOCK_HOLD.key()).values().count()).isEqualTo(1L);
+            assertThat(snapshot.histograms().get(Metric.USER_POINT_SELECT.key()).values().count()).isEqualTo(1L);
+            assertThat(snapshot.gauges()).containsKey("history.backlog");
+        }
+    }
 }
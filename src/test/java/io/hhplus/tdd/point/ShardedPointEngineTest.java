@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.common.PointConstants.MAXIMUM_BALANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardedPointEngineTest {
+
+    private static final long USER_ID = 1L;
+
+    @Test
+    void 동시_충전을_shard_스레드가_순서대로_반영하고_최대_잔고를_넘지_않음() throws InterruptedException {
+        //given
+        UserPointTable userPointTable = new UserPointTable();
+        ShardedPointEngine engine = new ShardedPointEngine(userPointTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.SHARDED, 4, 64, ShardBackpressure.BLOCK, 100_000));
+        int requestCount = 200;
+        long chargeAmount = 1000L;
+        AtomicInteger succeeded = new AtomicInteger();
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, chargeAmount));
+                    succeeded.incrementAndGet();
+                } catch (PointValidationException ignored) {
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        //then
+        assertThat(succeeded.get()).isEqualTo((int) (MAXIMUM_BALANCE / chargeAmount));
+        assertThat(engine.get(USER_ID).point()).isEqualTo(MAXIMUM_BALANCE);
+        assertThat(userPointTable.selectById(USER_ID).point()).isEqualTo(MAXIMUM_BALANCE);
+        engine.close();
+    }
+
+    @Test
+    void 반영_후_처리는_같은_유저의_반영_순서대로_호출() throws InterruptedException {
+        //given
+        ShardedPointEngine engine = new ShardedPointEngine(new UserPointTable(), new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.SHARDED, 4, 64, ShardBackpressure.BLOCK, 100_000));
+        int requestCount = 200;
+        List<Long> appliedBalances = new CopyOnWriteArrayList<>();
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 1L),
+                    applied -> appliedBalances.add(applied.point())));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        engine.close();
+
+        //then - 로그/히스토리 기록 순서가 잔액 반영 순서와 같음
+        assertThat(appliedBalances).hasSize(requestCount).isSorted();
+        assertThat(appliedBalances.get(requestCount - 1)).isEqualTo((long) requestCount);
+    }
+
+    @Test
+    void 대기열이_가득_차면_REJECT_설정에서_바로_거절() throws InterruptedException {
+        //given - shard 스레드가 첫 명령의 잔액 적재에서 멈춘 상태
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserPointTable blockingTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return UserPoint.empty(id);
+            }
+        };
+        ShardedPointEngine engine = new ShardedPointEngine(blockingTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.SHARDED, 1, 2, ShardBackpressure.REJECT, 100_000));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        executor.submit(() -> engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 100L)));
+        loading.await();
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 100L)));
+        }
+        while (engine.backlog() < 2) {
+            Thread.onSpinWait();
+        }
+
+        //when, then
+        assertThatThrownBy(() -> engine.apply(new PointOperation(USER_ID, TransactionType.CHARGE, 100L)))
+                .isInstanceOf(PointOverloadedException.class);
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        engine.close();
+    }
+
+    @Test
+    void 보관_유저_수를_넘으면_오래_사용하지_않은_유저를_제거하고_테이블에서_다시_적재() throws InterruptedException {
+        //given - 테이블 조회 횟수를 세는 지연 없는 테이블
+        Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        AtomicInteger selected = new AtomicInteger();
+        UserPointTable countingTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                selected.incrementAndGet();
+                return table.getOrDefault(id, UserPoint.empty(id));
+            }
+
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+                table.put(id, userPoint);
+                return userPoint;
+            }
+        };
+        // 최소 보관 유저 수(배치 크기 + 1) 로 제한
+        ShardedPointEngine engine = new ShardedPointEngine(countingTable, new PointMetrics(true),
+                new PointProperties.Engine(PointEngineMode.SHARDED, 1, 64, ShardBackpressure.BLOCK, 1));
+        int userCount = 1_000;
+        for (long userId = 1; userId <= userCount; userId++) {
+            engine.apply(new PointOperation(userId, TransactionType.CHARGE, userId));
+        }
+
+        //when
+        UserPoint reloaded = engine.get(USER_ID);
+
+        //then
+        assertThat(reloaded.point()).isEqualTo(USER_ID);
+        assertThat(selected.get()).isEqualTo(userCount + 1);
+        engine.close();
+    }
+}
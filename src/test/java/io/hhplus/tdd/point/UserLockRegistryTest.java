@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.common.PointConstants.EXTREME_THREAD_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserLockRegistryTest {
+
+    private final UserLockRegistry registry = new UserLockRegistry();
+
+    @Test
+    void 참조가_남아있는_동안_같은_락_반환() {
+        //given
+        UserLock first = registry.acquire(1L);
+
+        //when
+        UserLock second = registry.acquire(1L);
+        registry.release(first);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(registry.size()).isEqualTo(1);
+        registry.release(second);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void 반납된_유저_락은_저장소에서_제거() {
+        //given
+        int userCount = 100_000;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            UserLock userLock = registry.acquire(userId);
+            long stamp = userLock.lock().writeLock();
+            userLock.lock().unlockWrite(stamp);
+            registry.release(userLock);
+        }
+
+        //then
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void 락_획득과_반납이_반복되어도_상호_배제_유지() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(EXTREME_THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(EXTREME_THREAD_COUNT);
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < EXTREME_THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < 100; j++) {
+                        UserLock userLock = registry.acquire(1L);
+                        long stamp = userLock.lock().writeLock();
+                        try {
+                            maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                            holders.decrementAndGet();
+                        } finally {
+                            userLock.lock().unlockWrite(stamp);
+                            registry.release(userLock);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        //then
+        assertThat(maxHolders.get()).isEqualTo(1);
+        assertThat(registry.size()).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserPointCacheTest {
+
+    private final Long UPDATE_MILLIS = 10000L;
+
+    @Test
+    void 조회_결과에_따라_hit_miss_집계() {
+        //given
+        UserPointCache cache = new UserPointCache(100);
+        cache.put(new UserPoint(1L, 1000L, UPDATE_MILLIS));
+
+        //when
+        UserPoint hit = cache.get(1L);
+        UserPoint miss = cache.get(2L);
+
+        //then
+        assertThat(hit.point()).isEqualTo(1000L);
+        assertThat(miss).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 최대_크기_초과_시_오래된_항목부터_제거() {
+        //given
+        UserPointCache cache = new UserPointCache(16);
+        int userCount = 16 * 10;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            cache.put(new UserPoint(userId, userId, UPDATE_MILLIS));
+        }
+
+        //then
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.evictionCount()).isEqualTo(userCount - cache.size());
+        assertThat(cache.get(userCount).point()).isEqualTo(userCount);
+    }
+
+    @Test
+    void 같은_유저_갱신_시_최신_잔액으로_교체() {
+        //given
+        UserPointCache cache = new UserPointCache(100);
+        cache.put(new UserPoint(1L, 1000L, UPDATE_MILLIS));
+
+        //when
+        cache.put(new UserPoint(1L, 1500L, UPDATE_MILLIS));
+
+        //then
+        assertThat(cache.get(1L).point()).isEqualTo(1500L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void hit_miss_eviction_횟수를_지표로_노출() {
+        //given
+        PointMetrics pointMetrics = new PointMetrics(true);
+        UserPointCache cache = new UserPointCache(16, pointMetrics);
+        for (long userId = 1; userId <= 17; userId++) {
+            cache.put(new UserPoint(userId, userId, UPDATE_MILLIS));
+        }
+
+        //when
+        cache.get(17L);
+        cache.get(1L);
+
+        //then
+        assertThat(pointMetrics.snapshot().gauges())
+                .containsEntry("cache.hits", 1L)
+                .containsEntry("cache.misses", 1L)
+                .containsEntry("cache.evictions", 1L)
+                .containsEntry("cache.size", 16L);
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointWriteAheadLog;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.hhplus.tdd.common.PointConstants.COMMON_THREAD_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드에서 유저 락 대기와 테이블 I/O 대기가 캐리어 스레드를 고정(pinning)하지 않는지 JFR 이벤트로 검증합니다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private final Long USER_ID = 1L;
+
+    @Test
+    void 한_유저에_대한_동시_충전이_캐리어_스레드를_고정하지_않음(@TempDir Path tempDir) throws Exception {
+        //given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointMetrics pointMetrics = new PointMetrics(true);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointProperties.History(HistoryDurability.SYNC, 100, 10, "heap"), pointMetrics);
+        PointBatchExecutor pointBatchExecutor = new PointBatchExecutor(1);
+        UserPointTable userPointTable = new UserPointTable();
+        PointProperties.Engine lockEngine =
+                new PointProperties.Engine(PointEngineMode.LOCK, 0, 1024, ShardBackpressure.BLOCK, 100_000);
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, pointHistoryWriter,
+                pointHistoryIndex, new UserPointCache(100), new PointSummaryStore(),
+                new IdempotencyCache(1_000, Duration.ofMinutes(1)),
+                new CasPointEngine(userPointTable, pointMetrics, lockEngine),
+                new ShardedPointEngine(userPointTable, pointMetrics, lockEngine), pointBatchExecutor,
+                new PointWriteAheadLog(new PointProperties.Wal(false, "data/wal", 1024, true)), pointMetrics);
+        Path dump = tempDir.resolve("pinning.jfr");
+
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            List<Future<UserPoint>> results = new ArrayList<>();
+            for (int i = 0; i < COMMON_THREAD_COUNT; i++) {
+                results.add(executor.submit(() -> pointService.chargePointOf(USER_ID, 100L)));
+            }
+            for (Future<UserPoint> result : results) {
+                result.get();
+            }
+            executor.shutdown();
+
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            pointBatchExecutor.close();
+            pointHistoryWriter.close();
+        }
+
+        //then
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                .toList();
+        assertThat(pinned).isEmpty();
+        assertThat(pointService.getUserPointOf(USER_ID).point()).isEqualTo(100L * COMMON_THREAD_COUNT);
+    }
+
+    // 컴파일 대상이 JDK 17 이므로 리플렉션으로 가상 스레드 실행기 생성
+    private ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.wire;
+
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointBinaryCodecTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    void 유저_포인트를_24바이트_little_endian_으로_기록() throws Exception {
+        //given
+        UserPoint userPoint = new UserPoint(7L, 1_234L, 1_700_000_000_000L);
+
+        //when
+        PointBinaryCodec.writeUserPoint(userPoint, out);
+
+        //then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.remaining()).isEqualTo(PointBinaryCodec.USER_POINT_SIZE);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+        assertThat(buffer.getLong()).isEqualTo(1_234L);
+        assertThat(buffer.getLong()).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void 버퍼보다_큰_히스토리_목록도_순서대로_기록() throws Exception {
+        //given
+        int count = 1_000;
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            histories.add(new PointHistory(i + 1, 7L, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i));
+        }
+
+        //when
+        PointBinaryCodec.writeHistories(histories, out);
+
+        //then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.remaining())
+                .isEqualTo(PointBinaryCodec.COUNT_SIZE + PointBinaryCodec.POINT_HISTORY_SIZE * count);
+        assertThat(buffer.getInt()).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(buffer.getLong()).isEqualTo(i + 1);
+            assertThat(buffer.getLong()).isEqualTo(7L);
+            assertThat(buffer.getLong()).isEqualTo(i);
+            assertThat(buffer.get()).isEqualTo((byte) (i % 2));
+            assertThat(buffer.getLong()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void 실패한_일괄_처리_항목은_오류_코드와_메시지를_기록() throws Exception {
+        //given
+        PointCommand command = new PointCommand(2L, TransactionType.USE, 5L);
+        List<PointBatchResult> results =
+                List.of(PointBatchResult.failure(command, new IllegalArgumentException("잔액이 부족합니다.")));
+
+        //when
+        PointBinaryCodec.writeBatchResults(results, out);
+
+        //then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.getInt()).isEqualTo(1);
+        assertThat(buffer.getLong()).isEqualTo(2L);
+        assertThat(buffer.get()).isEqualTo((byte) TransactionType.USE.ordinal());
+        assertThat(buffer.getLong()).isEqualTo(5L);
+        assertThat(buffer.get()).isEqualTo((byte) 1);
+        assertThat(readString(buffer)).isEqualTo("400");
+        assertThat(readString(buffer)).isEqualTo("잔액이 부족합니다.");
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void 거래_종류가_없는_일괄_처리_항목은_종류를_음수로_기록() throws Exception {
+        //given
+        PointCommand command = new PointCommand(2L, null, 5L);
+        List<PointBatchResult> results =
+                List.of(PointBatchResult.failure(command, new IllegalArgumentException("거래 종류(type)를 입력해주세요.")));
+
+        //when
+        PointBinaryCodec.writeBatchResults(results, out);
+
+        //then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.getInt()).isEqualTo(1);
+        assertThat(buffer.getLong()).isEqualTo(2L);
+        assertThat(buffer.get()).isEqualTo((byte) -1);
+        assertThat(buffer.getLong()).isEqualTo(5L);
+        assertThat(buffer.get()).isEqualTo((byte) 1);
+        assertThat(readString(buffer)).isEqualTo("400");
+    }
+
+    @Test
+    void 일괄_처리_요청과_금액을_읽음() throws Exception {
+        //given
+        ByteBuffer commands = ByteBuffer.allocate(PointBinaryCodec.COUNT_SIZE + PointBinaryCodec.POINT_COMMAND_SIZE * 2)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(2)
+                .putLong(1L).put((byte) 0).putLong(100L)
+                .putLong(2L).put((byte) 1).putLong(50L);
+        ByteBuffer amount = ByteBuffer.allocate(PointBinaryCodec.AMOUNT_SIZE).order(ByteOrder.LITTLE_ENDIAN).putLong(500L);
+
+        //when
+        List<PointCommand> result = PointBinaryCodec.readCommands(new ByteArrayInputStream(commands.array()));
+
+        //then
+        assertThat(result).containsExactly(
+                new PointCommand(1L, TransactionType.CHARGE, 100L),
+                new PointCommand(2L, TransactionType.USE, 50L));
+        assertThat(PointBinaryCodec.readAmount(new ByteArrayInputStream(amount.array()))).isEqualTo(500L);
+    }
+
+    @Test
+    void 항목_수보다_짧은_요청은_거절() {
+        //given - 항목 2건 중 1건만 포함
+        ByteBuffer commands = ByteBuffer.allocate(PointBinaryCodec.COUNT_SIZE + PointBinaryCodec.POINT_COMMAND_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(2)
+                .putLong(1L).put((byte) 0).putLong(100L);
+
+        //when //then
+        assertThatThrownBy(() -> PointBinaryCodec.readCommands(new ByteArrayInputStream(commands.array())))
+                .isInstanceOf(EOFException.class);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}